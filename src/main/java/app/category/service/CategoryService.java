@@ -1,7 +1,7 @@
 package app.category.service;
 
 import app.category.model.Category;
-import app.category.repository.CategoryRepository;
+import app.exercise.service.ExerciseCatalog;
 import app.progress.model.Progress;
 import app.progress.service.ProgressService;
 import lombok.extern.slf4j.Slf4j;
@@ -15,23 +15,18 @@ import java.util.*;
 @Slf4j
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final ExerciseCatalog exerciseCatalog;
     private final ProgressService progressService;
 
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository,
+    public CategoryService(ExerciseCatalog exerciseCatalog,
                            ProgressService progressService) {
-        this.categoryRepository = categoryRepository;
+        this.exerciseCatalog = exerciseCatalog;
         this.progressService = progressService;
     }
 
     public Category getNextMuscleGroup(UUID userId) {
         List<Progress> progressHistory = progressService.getUserProgressSummary(userId);
-        List<Category> allCategories = categoryRepository.findAll();
-
-        if (progressHistory.isEmpty()) {
-            return allCategories.get(0);
-        }
 
         Map<String, LocalDateTime> lastTrainedMap = new HashMap<>();
 
@@ -41,6 +36,16 @@ public class CategoryService {
             lastTrainedMap.put(muscleGroup, workoutDate);
         }
 
+        return getNextMuscleGroup(lastTrainedMap);
+    }
+
+    public Category getNextMuscleGroup(Map<String, LocalDateTime> lastTrainedMap) {
+        List<Category> allCategories = exerciseCatalog.getCategories();
+
+        if (lastTrainedMap.isEmpty()) {
+            return allCategories.get(0);
+        }
+
         return allCategories.stream()
                 .min(Comparator.comparing(category ->
                         lastTrainedMap.getOrDefault(category.getName(), LocalDateTime.MIN)))
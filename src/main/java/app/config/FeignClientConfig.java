@@ -11,6 +11,6 @@ public class FeignClientConfig {
     @Bean
     public ErrorDecoder customErrorDecoder() {
         return (methodKey, response) -> new NotificationServiceFeignCallException
-                ("Notification service error: " + response.status());
+                ("Notification service error: " + response.status(), response.status());
     }
 }
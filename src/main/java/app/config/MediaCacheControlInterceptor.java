@@ -0,0 +1,30 @@
+package app.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the Cache-Control header for a media request. Fingerprinted URLs (name-md5hash.ext) never
+ * change content and are cached for a year as immutable; a plain URL can point at a different
+ * file after a deploy, so it is always revalidated.
+ */
+public class MediaCacheControlInterceptor implements HandlerInterceptor {
+
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CacheControl cacheControl = FINGERPRINTED.matcher(request.getRequestURI()).find() ? IMMUTABLE : REVALIDATE;
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return true;
+    }
+}
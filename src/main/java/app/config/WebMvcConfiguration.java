@@ -1,19 +1,103 @@
 
 package app.config;
 
+import app.exercise.service.ExerciseImageResolver;
+import app.exercise.service.ExerciseThumbnailGenerator;
+import app.security.CurrentUserResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.CachingResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableMethodSecurity
 public class WebMvcConfiguration implements WebMvcConfigurer {
 
+    private final CurrentUserResolver currentUserResolver;
+
+    @Autowired
+    public WebMvcConfiguration(CurrentUserResolver currentUserResolver) {
+        this.currentUserResolver = currentUserResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserResolver);
+    }
+
+    /**
+     * Exercise images are requested by fingerprinted URL (name-contenthash.ext), so a changed
+     * file gets a new URL and the old one can be cached as immutable; plain URLs still resolve
+     * but are revalidated (see {@link MediaCacheControlInterceptor}). They are read from
+     * {@code media.exercise-images.location} first when set, falling back to the classpath, and
+     * precompressed {@code .br}/{@code .gz} siblings are served to clients that accept them.
+     * Range requests are answered by the handler itself.
+     */
+    @Bean
+    public ResourceHttpRequestHandler exerciseImageHandler(@Value("${media.exercise-images.location:}") String location) {
+        List<String> locations = new ArrayList<>();
+        if (StringUtils.hasText(location)) {
+            locations.add(location);
+        }
+        locations.add(ExerciseImageResolver.CLASSPATH_LOCATION);
+        return mediaHandler(locations, "exerciseImages");
+    }
+
+    /**
+     * Poster thumbnails written by {@code ExerciseThumbnailGenerator}, cached the same way.
+     */
+    @Bean
+    public ResourceHttpRequestHandler exerciseThumbnailHandler(@Value("${media.thumbnails.directory}") String directory) {
+        return mediaHandler(List.of(StringUtils.trimTrailingCharacter(Path.of(directory).toUri().toString(), '/') + "/"), "exerciseThumbnails");
+    }
+
+    /**
+     * Ordered after the controllers and before the default static resource mapping.
+     */
+    @Bean
+    public SimpleUrlHandlerMapping exerciseImageHandlerMapping(ResourceHttpRequestHandler exerciseImageHandler,
+                                                               ResourceHttpRequestHandler exerciseThumbnailHandler) {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of(
+                ExerciseImageResolver.IMAGES_PATH + "**", exerciseImageHandler,
+                ExerciseThumbnailGenerator.THUMBNAILS_PATH + "**", exerciseThumbnailHandler));
+        mapping.setInterceptors(new MediaCacheControlInterceptor());
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        return mapping;
+    }
+
+    private static ResourceHttpRequestHandler mediaHandler(List<String> locations, String cacheName) {
+        ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+        handler.setLocationValues(locations);
+        handler.setResourceResolvers(List.of(
+                new CachingResourceResolver(new ConcurrentMapCache(cacheName)),
+                new EncodedResourceResolver(),
+                new VersionResourceResolver().addContentVersionStrategy("/**"),
+                new PathResourceResolver()));
+        handler.setResourceHttpMessageConverter(new MediaResourceHttpMessageConverter());
+        return handler;
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
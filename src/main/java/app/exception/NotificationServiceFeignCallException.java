@@ -2,7 +2,18 @@ package app.exception;
 
 public class NotificationServiceFeignCallException extends RuntimeException {
 
+    private final int status;
+
     public NotificationServiceFeignCallException(String message) {
+        this(message, 0);
+    }
+
+    public NotificationServiceFeignCallException(String message, int status) {
         super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
     }
 }
@@ -0,0 +1,16 @@
+package app.exercise.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One category's exercises as read from a single catalog snapshot, tagged with its version.
+ */
+@Value
+public class CategoryExercises {
+
+    long catalogVersion;
+    boolean knownCategory;
+    List<Exercise> exercises;
+}
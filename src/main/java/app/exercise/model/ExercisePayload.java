@@ -0,0 +1,14 @@
+package app.exercise.model;
+
+import lombok.Value;
+
+/**
+ * JSON of one category's exercises, serialized once per catalog version.
+ */
+@Value
+public class ExercisePayload {
+
+    byte[] body;
+    String etag;
+    long catalogVersion;
+}
@@ -0,0 +1,32 @@
+package app.exercise.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of the shared workout selection store. Exercise ids are kept as one comma-separated
+ * column since they are only ever read and written as a whole.
+ */
+@Entity
+@Table(name = "workout_selections", indexes = @Index(name = "idx_workout_selections_expires_on", columnList = "expires_on"))
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSelection {
+
+    @Id
+    private UUID userId;
+
+    @Column(length = 4000)
+    private String exerciseIds;
+
+    private UUID sessionId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresOn;
+}
@@ -3,6 +3,8 @@ package app.exercise.repository;
 import app.category.model.Category;
 import app.exercise.model.Exercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,10 @@ public interface ExerciseRepository extends JpaRepository<Exercise, UUID> {
     List<Exercise> findByCategory(Category category);
 
     List<Exercise> findAllByWorkoutId(UUID workoutId);
+
+    @Query("SELECT e FROM Exercise e JOIN FETCH e.category")
+    List<Exercise> findAllWithCategory();
+
+    @Query("SELECT e FROM Exercise e JOIN FETCH e.category WHERE e.id IN :ids")
+    List<Exercise> findAllWithCategoryByIdIn(@Param("ids") List<UUID> ids);
 }
@@ -0,0 +1,23 @@
+package app.exercise.repository;
+
+import app.exercise.model.WorkoutSelection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WorkoutSelectionRepository extends JpaRepository<WorkoutSelection, UUID> {
+
+    @Query("SELECT s FROM WorkoutSelection s WHERE s.userId = :userId AND s.expiresOn > :now")
+    Optional<WorkoutSelection> findLive(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM WorkoutSelection s WHERE s.expiresOn <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
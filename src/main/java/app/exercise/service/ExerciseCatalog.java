@@ -0,0 +1,136 @@
+package app.exercise.service;
+
+import app.category.model.Category;
+import app.category.repository.CategoryRepository;
+import app.exercise.model.CategoryExercises;
+import app.exercise.model.Exercise;
+import app.exercise.repository.ExerciseRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-only copy of the categories and exercises. The catalog is loaded once the seed data is in
+ * place and swapped as a whole on {@link #refresh()}, so reads never touch the database and never
+ * see a half-built catalog. The returned entities are detached and shared; callers must not
+ * modify them.
+ */
+@Slf4j
+@Component
+public class ExerciseCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final ExerciseRepository exerciseRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Autowired
+    public ExerciseCatalog(CategoryRepository categoryRepository, ExerciseRepository exerciseRepository) {
+        this.categoryRepository = categoryRepository;
+        this.exerciseRepository = exerciseRepository;
+    }
+
+    /**
+     * Reloads the catalog. Runs right after the seed on startup, before the web server accepts
+     * requests, and after every change to an exercise. Both queries share one persistence
+     * context, so every exercise points at the same category instance the catalog hands out.
+     * The reload is local to this node: other nodes keep serving their own copy until they
+     * restart.
+     */
+    @Transactional
+    public void refresh() {
+        Snapshot loaded = new Snapshot(snapshot.version + 1,
+                categoryRepository.findAll(), exerciseRepository.findAllWithCategory());
+        snapshot = loaded;
+        log.info("Loaded exercise catalog with {} categories and {} exercises",
+                loaded.categories.size(), loaded.exercises.size());
+    }
+
+    public List<Category> getCategories() {
+        return snapshot.categories;
+    }
+
+    public Optional<Category> findCategory(String name) {
+        return Optional.ofNullable(snapshot.categoriesByName.get(name));
+    }
+
+    public List<Exercise> getExercises() {
+        return snapshot.exercises;
+    }
+
+    public List<Exercise> getExercisesByCategory(String categoryName) {
+        return snapshot.exercisesByCategory.getOrDefault(categoryName, List.of());
+    }
+
+    /**
+     * The category's exercises and the catalog version they belong to, read from the same
+     * snapshot so a concurrent refresh cannot pair old exercises with a new version. The version
+     * is bumped on every refresh, so anything derived from the catalog can tell it is stale.
+     */
+    public CategoryExercises getCategoryExercises(String categoryName) {
+        Snapshot current = snapshot;
+        return new CategoryExercises(current.version, current.categoriesByName.containsKey(categoryName),
+                current.exercisesByCategory.getOrDefault(categoryName, List.of()));
+    }
+
+    public Optional<Exercise> findExercise(UUID id) {
+        return Optional.ofNullable(snapshot.exercisesById.get(id));
+    }
+
+    /**
+     * Exercises for the given ids in the order asked for; unknown ids are skipped.
+     */
+    public List<Exercise> getExercisesByIds(List<UUID> ids) {
+        Map<UUID, Exercise> exercisesById = snapshot.exercisesById;
+        List<Exercise> exercises = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Exercise exercise = exercisesById.get(id);
+            if (exercise != null) {
+                exercises.add(exercise);
+            }
+        }
+        return exercises;
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0, List.of(), List.of());
+
+        private final long version;
+        private final List<Category> categories;
+        private final List<Exercise> exercises;
+        private final Map<String, Category> categoriesByName;
+        private final Map<UUID, Exercise> exercisesById;
+        private final Map<String, List<Exercise>> exercisesByCategory;
+
+        private Snapshot(long version, List<Category> categories, List<Exercise> exercises) {
+            this.version = version;
+            this.categories = List.copyOf(categories);
+            this.exercises = List.copyOf(exercises);
+
+            Map<String, Category> byName = new HashMap<>();
+            for (Category category : categories) {
+                byName.put(category.getName(), category);
+            }
+            this.categoriesByName = Map.copyOf(byName);
+
+            Map<UUID, Exercise> byId = new HashMap<>();
+            Map<String, List<Exercise>> byCategory = new HashMap<>();
+            for (Exercise exercise : exercises) {
+                byId.put(exercise.getId(), exercise);
+                byCategory.computeIfAbsent(exercise.getCategory().getName(), name -> new ArrayList<>()).add(exercise);
+            }
+            byCategory.replaceAll((name, list) -> List.copyOf(list));
+            this.exercisesById = Map.copyOf(byId);
+            this.exercisesByCategory = Map.copyOf(byCategory);
+        }
+    }
+}
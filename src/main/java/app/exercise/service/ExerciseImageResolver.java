@@ -0,0 +1,122 @@
+package app.exercise.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns an exercise's {@code gifUrl} into the URL the browser should load: the smallest
+ * variant it accepts, fingerprinted with a content hash so it can be cached forever (see the
+ * {@code /images/exercises/**} handler in {@code WebMvcConfiguration}).
+ * <p>
+ * Variants are files next to the GIF with the same base name, e.g. {@code Squat.webp} beside
+ * {@code Squat.gif}; the set present on the classpath and in {@code media.exercise-images.location}
+ * is read once at startup.
+ */
+@Slf4j
+@Component
+public class ExerciseImageResolver {
+
+    public static final String IMAGES_PATH = "/images/exercises/";
+    public static final String CLASSPATH_LOCATION = "classpath:/static" + IMAGES_PATH;
+
+    private static final MediaType WEBP = MediaType.parseMediaType("image/webp");
+
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final Set<String> availableFiles;
+
+    @Autowired
+    public ExerciseImageResolver(ResourceUrlProvider resourceUrlProvider,
+                                 ResourcePatternResolver resourcePatternResolver,
+                                 @Value("${media.exercise-images.location:}") String location) {
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.availableFiles = scan(resourcePatternResolver, location);
+        log.info("Found {} exercise image files", availableFiles.size());
+    }
+
+    public String resolve(String gifUrl, String accept) {
+        if (gifUrl == null || !gifUrl.startsWith(IMAGES_PATH)) {
+            return gifUrl;
+        }
+
+        String webp = acceptsWebp(accept) ? resolveWebp(gifUrl) : null;
+        if (webp != null) {
+            return webp;
+        }
+
+        String fingerprinted = resourceUrlProvider.getForLookupPath(gifUrl);
+        return fingerprinted != null ? fingerprinted : gifUrl;
+    }
+
+    /**
+     * Fingerprinted URL of the exercise's WebP variant whatever the client accepts, or
+     * {@code null} when there is none, for responses that let the client pick the variant.
+     */
+    public String resolveWebp(String gifUrl) {
+        if (gifUrl == null || !gifUrl.startsWith(IMAGES_PATH)) {
+            return null;
+        }
+
+        String webp = StringUtils.stripFilenameExtension(gifUrl) + ".webp";
+        if (!availableFiles.contains(StringUtils.getFilename(webp))) {
+            return null;
+        }
+        String fingerprinted = resourceUrlProvider.getForLookupPath(webp);
+        return fingerprinted != null ? fingerprinted : webp;
+    }
+
+    /**
+     * Fingerprinted URL of the exercise's poster thumbnail, or {@code null} while none has been
+     * generated for it.
+     */
+    public String resolveThumbnail(String gifUrl) {
+        if (gifUrl == null || !gifUrl.startsWith(IMAGES_PATH)) {
+            return null;
+        }
+        String filename = StringUtils.stripFilenameExtension(StringUtils.getFilename(gifUrl));
+        return resourceUrlProvider.getForLookupPath(ExerciseThumbnailGenerator.THUMBNAILS_PATH
+                + filename + ExerciseThumbnailGenerator.THUMBNAIL_EXTENSION);
+    }
+
+    private static boolean acceptsWebp(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return false;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            return mediaTypes.stream().anyMatch(type -> type.equalsTypeAndSubtype(WEBP) && type.getQualityValue() > 0);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static Set<String> scan(ResourcePatternResolver resourcePatternResolver, String location) {
+        try {
+            Set<String> files = new HashSet<>();
+            for (Resource resource : resourcePatternResolver.getResources(CLASSPATH_LOCATION + "*")) {
+                files.add(resource.getFilename());
+            }
+            if (StringUtils.hasText(location)) {
+                for (Resource resource : resourcePatternResolver.getResources(StringUtils.trimTrailingCharacter(location, '/') + "/*")) {
+                    files.add(resource.getFilename());
+                }
+            }
+            return Set.copyOf(files);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list exercise images", e);
+        }
+    }
+}
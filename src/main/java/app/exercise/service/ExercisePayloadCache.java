@@ -0,0 +1,77 @@
+package app.exercise.service;
+
+import app.exercise.model.CategoryExercises;
+import app.exercise.model.Exercise;
+import app.exercise.model.ExercisePayload;
+import app.web.dto.ExerciseDTO;
+import app.web.mapper.DtoMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized {@code /workout/exercise} responses, one per category name. A payload is built
+ * on first request and reused until the catalog's version changes, so a category click costs a
+ * map lookup instead of mapping and serializing the exercises again. Payloads do not depend on
+ * the request: each exercise carries its GIF and, where one exists, its WebP URL, and the client
+ * picks the variant, so one payload and ETag serve every browser.
+ */
+@Slf4j
+@Component
+public class ExercisePayloadCache {
+
+    private final ExerciseCatalog exerciseCatalog;
+    private final ObjectMapper objectMapper;
+    private final ExerciseImageResolver exerciseImageResolver;
+    private final Map<String, ExercisePayload> payloads = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ExercisePayloadCache(ExerciseCatalog exerciseCatalog, ObjectMapper objectMapper,
+                                ExerciseImageResolver exerciseImageResolver) {
+        this.exerciseCatalog = exerciseCatalog;
+        this.objectMapper = objectMapper;
+        this.exerciseImageResolver = exerciseImageResolver;
+    }
+
+    public ExercisePayload getByCategory(String categoryName) {
+        CategoryExercises current = exerciseCatalog.getCategoryExercises(categoryName);
+        ExercisePayload payload = payloads.get(categoryName);
+        if (payload != null && payload.getCatalogVersion() == current.getCatalogVersion()) {
+            return payload;
+        }
+
+        ExercisePayload built = serialize(current.getExercises(), current.getCatalogVersion());
+        if (current.isKnownCategory()) {
+            // A request still holding an older snapshot must not replace a newer payload.
+            payloads.merge(categoryName, built,
+                    (cached, fresh) -> fresh.getCatalogVersion() >= cached.getCatalogVersion() ? fresh : cached);
+        }
+        return built;
+    }
+
+    private ExercisePayload serialize(List<Exercise> exercises, long version) {
+        List<ExerciseDTO> dtos = exercises.stream().map(this::toDto).toList();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(dtos);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new ExercisePayload(body, etag, version);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize exercises", e);
+        }
+    }
+
+    private ExerciseDTO toDto(Exercise exercise) {
+        ExerciseDTO dto = DtoMapper.mapExerciseToExerciseDTO(exercise,
+                exerciseImageResolver.resolve(exercise.getGifUrl(), null),
+                exerciseImageResolver.resolveThumbnail(exercise.getGifUrl()));
+        dto.setWebpUrl(exerciseImageResolver.resolveWebp(exercise.getGifUrl()));
+        return dto;
+    }
+}
@@ -1,64 +1,55 @@
 package app.exercise.service;
 
-import app.category.model.Category;
-import app.category.repository.CategoryRepository;
 import app.exercise.model.Exercise;
-import app.exercise.repository.ExerciseRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Service
 public class ExerciseService {
 
-    private final ExerciseRepository exerciseRepository;
-    private final CategoryRepository categoryRepository;
-    private final Map<UUID, List<UUID>> selectedExercisesMap = new ConcurrentHashMap<>();
-    private final Map<UUID, UUID> workoutSessionMap = new ConcurrentHashMap<>();
+    private final ExerciseCatalog exerciseCatalog;
+    private final WorkoutSelectionStore workoutSelectionStore;
 
     @Autowired
-    public ExerciseService(ExerciseRepository exerciseRepository, CategoryRepository categoryRepository) {
-        this.exerciseRepository = exerciseRepository;
-        this.categoryRepository = categoryRepository;
+    public ExerciseService(ExerciseCatalog exerciseCatalog, WorkoutSelectionStore workoutSelectionStore) {
+        this.exerciseCatalog = exerciseCatalog;
+        this.workoutSelectionStore = workoutSelectionStore;
     }
 
     public List<Exercise> getExercisesByIds(List<UUID> exerciseIds) {
-        return exerciseRepository.findAllById(exerciseIds);
+        return exerciseCatalog.getExercisesByIds(exerciseIds);
     }
 
     public List<Exercise> getExercisesByCategory(String categoryName) {
-        Category category = categoryRepository.findByName(categoryName);
-        if (category == null) {
-            return List.of();
-        }
-        return exerciseRepository.findByCategory(category);
+        return exerciseCatalog.getExercisesByCategory(categoryName);
     }
 
     public List<Exercise> getAllExercises() {
-        return exerciseRepository.findAll();
+        return exerciseCatalog.getExercises();
     }
 
     public void storeUserSelectedExercises(UUID userId, List<UUID> exerciseIds) {
-        selectedExercisesMap.put(userId, new ArrayList<>(exerciseIds));
+        workoutSelectionStore.saveExercises(userId, exerciseIds);
     }
 
     public List<UUID> getUserSelectedExercises(UUID userId) {
-        return selectedExercisesMap.getOrDefault(userId, Collections.emptyList());
+        return workoutSelectionStore.getExercises(userId);
     }
 
     public void clearUserSelectedExercises(UUID userId) {
-        selectedExercisesMap.remove(userId);
+        workoutSelectionStore.clear(userId);
     }
 
     public void storeWorkoutSessionId(UUID userId, UUID sessionId) {
-        workoutSessionMap.put(userId, sessionId);
+        workoutSelectionStore.saveSessionId(userId, sessionId);
     }
 
     public UUID getWorkoutSessionId(UUID userId) {
-        return workoutSessionMap.get(userId);
+        return workoutSelectionStore.getSessionId(userId);
     }
 }
@@ -0,0 +1,121 @@
+package app.exercise.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes a small JPEG poster of every exercise GIF's first frame to
+ * {@code media.thumbnails.directory}, served under {@link #THUMBNAILS_PATH}. Posters are kept on
+ * disk between restarts and only redrawn when the GIF is newer than its poster. Generation runs
+ * while the context starts, before the web server accepts requests and before the catalog loads,
+ * so no exercise payload is ever built without its poster URL.
+ */
+@Slf4j
+@Component
+public class ExerciseThumbnailGenerator {
+
+    public static final String THUMBNAILS_PATH = "/images/thumbnails/";
+    public static final String THUMBNAIL_EXTENSION = ".jpg";
+
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final String location;
+    private final Path directory;
+    private final int width;
+
+    @Autowired
+    public ExerciseThumbnailGenerator(ResourcePatternResolver resourcePatternResolver,
+                                      @Value("${media.exercise-images.location:}") String location,
+                                      @Value("${media.thumbnails.directory}") String directory,
+                                      @Value("${media.thumbnails.width:160}") int width) {
+        this.resourcePatternResolver = resourcePatternResolver;
+        this.location = location;
+        this.directory = Path.of(directory);
+        this.width = width;
+    }
+
+    @PostConstruct
+    public void generate() {
+        long start = System.currentTimeMillis();
+        int generated = 0;
+        try {
+            Files.createDirectories(directory);
+            for (Map.Entry<String, Resource> gif : listGifs().entrySet()) {
+                Path target = directory.resolve(gif.getKey() + THUMBNAIL_EXTENSION);
+                if (isFresh(target, gif.getValue())) {
+                    continue;
+                }
+                if (writeThumbnail(gif.getValue(), target)) {
+                    generated++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not generate exercise thumbnails", e);
+        }
+        log.info("Generated {} exercise thumbnails in {} ms", generated, System.currentTimeMillis() - start);
+    }
+
+    // Files in media.exercise-images.location replace classpath files of the same name.
+    private Map<String, Resource> listGifs() throws IOException {
+        Map<String, Resource> gifs = new LinkedHashMap<>();
+        for (Resource resource : resourcePatternResolver.getResources(ExerciseImageResolver.CLASSPATH_LOCATION + "*.gif")) {
+            gifs.put(StringUtils.stripFilenameExtension(resource.getFilename()), resource);
+        }
+        if (StringUtils.hasText(location)) {
+            for (Resource resource : resourcePatternResolver.getResources(StringUtils.trimTrailingCharacter(location, '/') + "/*.gif")) {
+                gifs.put(StringUtils.stripFilenameExtension(resource.getFilename()), resource);
+            }
+        }
+        return gifs;
+    }
+
+    private static boolean isFresh(Path target, Resource gif) throws IOException {
+        return Files.exists(target) && Files.getLastModifiedTime(target).toMillis() >= gif.lastModified();
+    }
+
+    private boolean writeThumbnail(Resource gif, Path target) throws IOException {
+        BufferedImage frame;
+        try (InputStream in = gif.getInputStream()) {
+            frame = ImageIO.read(in);
+        } catch (IIOException e) {
+            frame = null;
+        }
+        if (frame == null) {
+            log.warn("Skipping thumbnail for unreadable image {}", gif.getFilename());
+            return false;
+        }
+
+        int height = Math.max(1, frame.getHeight() * width / frame.getWidth());
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(frame, 0, 0, width, height, Color.WHITE, null);
+        graphics.dispose();
+
+        // Written next to the target and moved, so a request never sees a half-written poster.
+        Path temporary = Files.createTempFile(directory, "thumbnail", THUMBNAIL_EXTENSION);
+        ImageIO.write(thumbnail, "jpg", temporary.toFile());
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package app.exercise.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single-node store: an access-ordered map capped at {@code workout.selection.max-entries}
+ * that drops the least recently used user when full and entries older than
+ * {@code workout.selection.ttl-minutes} on access.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "workout.selection.store", havingValue = "local", matchIfMissing = true)
+public class LocalWorkoutSelectionStore implements WorkoutSelectionStore {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<UUID, Entry> entries;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+
+    @Autowired
+    public LocalWorkoutSelectionStore(@Value("${workout.selection.ttl-minutes:120}") long ttlMinutes,
+                                      @Value("${workout.selection.max-entries:10000}") int maxEntries,
+                                      MeterRegistry meterRegistry) {
+        this(Duration.ofMinutes(ttlMinutes), maxEntries, meterRegistry, Clock.systemUTC());
+    }
+
+    public LocalWorkoutSelectionStore(Duration ttl, int maxEntries, MeterRegistry meterRegistry, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                boolean full = size() > LocalWorkoutSelectionStore.this.maxEntries;
+                if (full) {
+                    sizeEvictions.increment();
+                }
+                return full;
+            }
+        };
+        this.sizeEvictions = meterRegistry.counter("workout.selection.evictions", "cause", "size");
+        this.expiredEvictions = meterRegistry.counter("workout.selection.evictions", "cause", "expired");
+        Gauge.builder("workout.selection.size", this, LocalWorkoutSelectionStore::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void saveExercises(UUID userId, List<UUID> exerciseIds) {
+        Entry current = live(userId);
+        entries.put(userId, new Entry(List.copyOf(exerciseIds), current != null ? current.sessionId : null, expiry()));
+    }
+
+    @Override
+    public synchronized List<UUID> getExercises(UUID userId) {
+        Entry entry = live(userId);
+        return entry != null ? entry.exerciseIds : List.of();
+    }
+
+    @Override
+    public synchronized void saveSessionId(UUID userId, UUID sessionId) {
+        Entry current = live(userId);
+        entries.put(userId, new Entry(current != null ? current.exerciseIds : List.of(), sessionId, expiry()));
+    }
+
+    @Override
+    public synchronized UUID getSessionId(UUID userId) {
+        Entry entry = live(userId);
+        return entry != null ? entry.sessionId : null;
+    }
+
+    @Override
+    public synchronized void clear(UUID userId) {
+        entries.remove(userId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops every expired entry. Expired entries are also dropped lazily when read, this only
+     * keeps idle users from holding their slot until the size cap pushes them out.
+     */
+    @Scheduled(fixedDelayString = "${workout.selection.sweep-interval-ms:600000}")
+    public synchronized void evictExpired() {
+        Instant now = clock.instant();
+        int evicted = 0;
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().expiresAt.isBefore(now)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        expiredEvictions.increment(evicted);
+        log.debug("Evicted {} expired workout selections", evicted);
+    }
+
+    private Entry live(UUID userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt.isBefore(clock.instant())) {
+            entries.remove(userId);
+            expiredEvictions.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    private Instant expiry() {
+        return clock.instant().plus(ttl);
+    }
+
+    private static final class Entry {
+
+        private final List<UUID> exerciseIds;
+        private final UUID sessionId;
+        private final Instant expiresAt;
+
+        private Entry(List<UUID> exerciseIds, UUID sessionId, Instant expiresAt) {
+            this.exerciseIds = exerciseIds;
+            this.sessionId = sessionId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
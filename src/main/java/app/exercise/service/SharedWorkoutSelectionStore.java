@@ -0,0 +1,103 @@
+package app.exercise.service;
+
+import app.exercise.model.WorkoutSelection;
+import app.exercise.repository.WorkoutSelectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Store backed by the {@code workout_selections} table, so whichever node serves the next
+ * request sees the selection. The table holds at most one row per user; expired rows are
+ * ignored on read and swept periodically.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "workout.selection.store", havingValue = "shared")
+public class SharedWorkoutSelectionStore implements WorkoutSelectionStore {
+
+    private final WorkoutSelectionRepository workoutSelectionRepository;
+    private final long ttlMinutes;
+    private final Counter expiredEvictions;
+
+    @Autowired
+    public SharedWorkoutSelectionStore(WorkoutSelectionRepository workoutSelectionRepository,
+                                       @Value("${workout.selection.ttl-minutes:120}") long ttlMinutes,
+                                       MeterRegistry meterRegistry) {
+        this.workoutSelectionRepository = workoutSelectionRepository;
+        this.ttlMinutes = ttlMinutes;
+        this.expiredEvictions = meterRegistry.counter("workout.selection.evictions", "cause", "expired");
+        Gauge.builder("workout.selection.size", workoutSelectionRepository, WorkoutSelectionRepository::count)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void saveExercises(UUID userId, List<UUID> exerciseIds) {
+        WorkoutSelection selection = liveOrNew(userId);
+        selection.setExerciseIds(exerciseIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        save(selection);
+    }
+
+    @Override
+    public List<UUID> getExercises(UUID userId) {
+        return workoutSelectionRepository.findLive(userId, LocalDateTime.now())
+                .map(WorkoutSelection::getExerciseIds)
+                .filter(ids -> !ids.isEmpty())
+                .map(ids -> Arrays.stream(ids.split(",")).map(UUID::fromString).toList())
+                .orElse(List.of());
+    }
+
+    @Override
+    @Transactional
+    public void saveSessionId(UUID userId, UUID sessionId) {
+        WorkoutSelection selection = liveOrNew(userId);
+        selection.setSessionId(sessionId);
+        save(selection);
+    }
+
+    @Override
+    public UUID getSessionId(UUID userId) {
+        return workoutSelectionRepository.findLive(userId, LocalDateTime.now())
+                .map(WorkoutSelection::getSessionId)
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public void clear(UUID userId) {
+        workoutSelectionRepository.deleteById(userId);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${workout.selection.sweep-interval-ms:600000}")
+    public void evictExpired() {
+        int evicted = workoutSelectionRepository.deleteExpired(LocalDateTime.now());
+        expiredEvictions.increment(evicted);
+        log.debug("Evicted {} expired workout selections", evicted);
+    }
+
+    // An expired row is replaced as a whole rather than revived with its old fields.
+    private WorkoutSelection liveOrNew(UUID userId) {
+        return workoutSelectionRepository.findLive(userId, LocalDateTime.now())
+                .orElseGet(() -> WorkoutSelection.builder().userId(userId).build());
+    }
+
+    private void save(WorkoutSelection selection) {
+        selection.setExpiresOn(LocalDateTime.now().plusMinutes(ttlMinutes));
+        workoutSelectionRepository.save(selection);
+    }
+}
@@ -0,0 +1,28 @@
+package app.exercise.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-user state between picking exercises and finishing the workout: the selected exercise
+ * ids and the id of the started session. Entries expire after a configurable time.
+ * Set {@code workout.selection.store=shared} when more than one node serves the app.
+ */
+public interface WorkoutSelectionStore {
+
+    void saveExercises(UUID userId, List<UUID> exerciseIds);
+
+    /**
+     * Selected exercise ids, or an empty list if there are none or they expired.
+     */
+    List<UUID> getExercises(UUID userId);
+
+    void saveSessionId(UUID userId, UUID sessionId);
+
+    /**
+     * Id of the started session, or {@code null} if there is none or it expired.
+     */
+    UUID getSessionId(UUID userId);
+
+    void clear(UUID userId);
+}
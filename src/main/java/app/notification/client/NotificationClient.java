@@ -27,6 +27,9 @@ public interface NotificationClient {
     @PostMapping
     ResponseEntity<Void> sendNotification(@RequestBody NotificationRequest request);
 
+    @PostMapping("/batch")
+    ResponseEntity<Void> sendNotifications(@RequestBody List<NotificationRequest> requests);
+
     @GetMapping
     ResponseEntity<List<Notification>> getNotificationHistory(@RequestParam("userId") UUID userId);
 
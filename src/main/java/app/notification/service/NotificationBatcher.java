@@ -0,0 +1,95 @@
+package app.notification.service;
+
+import app.exception.NotificationServiceFeignCallException;
+import app.notification.client.NotificationClient;
+import app.notification.client.dto.NotificationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sends batches of notifications through the bulk endpoint of the notification service.
+ * If the remote side answers that it has no bulk endpoint, batches fall back to one call per
+ * request until {@code notifications.batch.bulk-retry-ms} has passed, then bulk is tried again.
+ * Any other failed bulk call (an error status or a timeout) falls back to one call per request
+ * for that batch only, so one bad response cannot cost a whole batch its notifications.
+ */
+@Slf4j
+@Component
+public class NotificationBatcher {
+
+    private static final Set<Integer> MISSING_ENDPOINT_STATUSES = Set.of(404, 405, 501);
+
+    private final NotificationClient notificationClient;
+    private final int batchSize;
+    private final long bulkRetryMillis;
+
+    private volatile long bulkRetryAt;
+
+    @Autowired
+    public NotificationBatcher(NotificationClient notificationClient,
+                               @Value("${notifications.batch.size:100}") int batchSize,
+                               @Value("${notifications.batch.bulk-retry-ms:600000}") long bulkRetryMillis) {
+        this.notificationClient = notificationClient;
+        this.batchSize = batchSize;
+        this.bulkRetryMillis = bulkRetryMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sends one batch and returns how many of its notifications were accepted.
+     */
+    public int send(List<NotificationRequest> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        if (System.currentTimeMillis() >= bulkRetryAt) {
+            try {
+                ResponseEntity<Void> response = notificationClient.sendNotifications(batch);
+                if (response != null && response.getStatusCode().is2xxSuccessful()) {
+                    return batch.size();
+                }
+                log.warn("Bulk notification call rejected for {} notifications. Sending them one by one.",
+                        batch.size());
+            } catch (NotificationServiceFeignCallException e) {
+                if (MISSING_ENDPOINT_STATUSES.contains(e.getStatus())) {
+                    log.info("Bulk notification endpoint not available [{}]. Falling back to single sends for {} ms.",
+                            e.getStatus(), bulkRetryMillis);
+                    bulkRetryAt = System.currentTimeMillis() + bulkRetryMillis;
+                } else {
+                    log.warn("Bulk notification call failed for {} notifications: {}. Sending them one by one.",
+                            batch.size(), e.getMessage());
+                }
+            } catch (Exception e) {
+                log.warn("Bulk notification call failed for {} notifications: {}. Sending them one by one.",
+                        batch.size(), e.getMessage());
+            }
+        }
+
+        return sendEach(batch);
+    }
+
+    private int sendEach(List<NotificationRequest> batch) {
+        int delivered = 0;
+        for (NotificationRequest request : batch) {
+            try {
+                ResponseEntity<Void> response = notificationClient.sendNotification(request);
+                if (response != null && response.getStatusCode().is2xxSuccessful()) {
+                    delivered++;
+                }
+            } catch (Exception e) {
+                log.warn("Error sending in-app notification to user [{}]: {}", request.getUserId(), e.getMessage());
+            }
+        }
+        return delivered;
+    }
+}
@@ -37,15 +37,23 @@ public class NotificationService {
         log.info("Checking workout notification for user: {}", userId);
 
         long workoutStreak = progressService.calculateWorkoutStreak(userId);
+        sendWorkoutNotification(userId, workoutStreak);
+    }
+
+    public NotificationRequest buildWorkoutNotification(UUID userId, long workoutStreak) {
         String message = (workoutStreak >= 3)
                 ? "Rest day! Time to recover."
                 : "Time to hit the gym! Keep the streak going.";
 
-        NotificationRequest inAppRequest = NotificationRequest.builder()
+        return NotificationRequest.builder()
                 .userId(userId)
                 .subject("Workout Alert")
                 .body(message)
                 .build();
+    }
+
+    public void sendWorkoutNotification(UUID userId, long workoutStreak) {
+        NotificationRequest inAppRequest = buildWorkoutNotification(userId, workoutStreak);
 
         try {
             ResponseEntity<Void> response = notificationClient.sendNotification(inAppRequest);
@@ -0,0 +1,101 @@
+package app.progress.model;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * One bit per epoch day, offset by {@code firstDay}. A streak ending on a given day is the
+ * count of trailing ones at that bit, which {@link BitSet} answers a word at a time.
+ */
+public class DayBitmap {
+
+    /**
+     * Column length of a persisted bitmap: a MySQL BLOB, enough for about 1,400 years of days.
+     */
+    public static final int MAX_BYTES = 65_535;
+
+    private int firstDay;
+    private BitSet days;
+
+    public DayBitmap(int firstDay, BitSet days) {
+        this.firstDay = firstDay;
+        this.days = days;
+    }
+
+    public static DayBitmap empty() {
+        return new DayBitmap(0, new BitSet());
+    }
+
+    public static DayBitmap fromBytes(int firstDay, byte[] bytes) {
+        return new DayBitmap(firstDay, BitSet.valueOf(bytes));
+    }
+
+    public void set(LocalDate day) {
+        set((int) day.toEpochDay());
+    }
+
+    public void set(int epochDay) {
+        if (days.isEmpty()) {
+            firstDay = epochDay;
+        } else if (epochDay < firstDay) {
+            int offset = firstDay - epochDay;
+            BitSet shifted = new BitSet(days.length() + offset);
+            days.stream().forEach(index -> shifted.set(index + offset));
+            days = shifted;
+            firstDay = epochDay;
+        }
+        days.set(epochDay - firstDay);
+    }
+
+    public boolean isSet(int epochDay) {
+        int index = epochDay - firstDay;
+        return index >= 0 && days.get(index);
+    }
+
+    public boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    public int getFirstDay() {
+        return firstDay;
+    }
+
+    public int getLastDay() {
+        return firstDay + days.length() - 1;
+    }
+
+    /**
+     * Number of consecutive active days ending at {@code epochDay}, or 0 if that day is not set.
+     */
+    public int trailingRun(int epochDay) {
+        int index = epochDay - firstDay;
+        if (index < 0 || !days.get(index)) {
+            return 0;
+        }
+        return index - days.previousClearBit(index);
+    }
+
+    public int longestRun() {
+        int longest = 0;
+        int start = days.nextSetBit(0);
+
+        while (start >= 0) {
+            int end = days.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = days.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    public StreakSummary toSummary() {
+        if (isEmpty()) {
+            return StreakSummary.EMPTY;
+        }
+        int lastDay = getLastDay();
+        return new StreakSummary(longestRun(), trailingRun(lastDay), lastDay);
+    }
+
+    public byte[] toByteArray() {
+        return days.toByteArray();
+    }
+}
@@ -10,6 +10,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_progress_user_timestamp", columnList = "user_id, timestamp"),
+        @Index(name = "idx_progress_workout", columnList = "workout_id")
+})
 @Builder
 @Getter
 @Setter
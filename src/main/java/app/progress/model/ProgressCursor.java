@@ -0,0 +1,35 @@
+package app.progress.model;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Position in a user's progress history, ordered by {@code (timestamp, id)} descending.
+ * Encoded as {@code <timestamp>_<id>} so it can travel as a plain query parameter.
+ */
+@Value
+public class ProgressCursor {
+
+    LocalDateTime timestamp;
+    UUID id;
+
+    public static ProgressCursor parse(String cursor) {
+        int separator = cursor.indexOf('_');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid progress cursor: " + cursor);
+        }
+        try {
+            return new ProgressCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                    UUID.fromString(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid progress cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return timestamp + "_" + id;
+    }
+}
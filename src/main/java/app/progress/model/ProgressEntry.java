@@ -0,0 +1,19 @@
+package app.progress.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat, read-only view of a single progress row. Loaded through a projection
+ * query so no Workout/Exercise/Category entities end up in the persistence context.
+ */
+public interface ProgressEntry {
+
+    UUID getWorkoutId();
+
+    LocalDateTime getTimestamp();
+
+    String getExerciseName();
+
+    String getCategoryName();
+}
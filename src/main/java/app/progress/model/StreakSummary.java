@@ -0,0 +1,59 @@
+package app.progress.model;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable result of a streak scan over a user's distinct workout days, stored as epoch days.
+ * {@code current} is the run ending at {@code lastDay}, so a summary never goes stale as time
+ * passes and can be extended in O(1) when a newer workout day arrives.
+ */
+@Value
+public class StreakSummary {
+
+    public static final StreakSummary EMPTY = new StreakSummary(0, 0, 0);
+
+    int longest;
+    int current;
+    int lastDay;
+
+    public static StreakSummary of(int[] sortedEpochDays) {
+        StreakSummary summary = EMPTY;
+        for (int day : sortedEpochDays) {
+            summary = summary.extend(day);
+        }
+        return summary;
+    }
+
+    public StreakSummary extend(int epochDay) {
+        if (isEmpty()) {
+            return new StreakSummary(1, 1, epochDay);
+        }
+        if (epochDay <= lastDay) {
+            return this;
+        }
+
+        int run = epochDay == lastDay + 1 ? current + 1 : 1;
+        return new StreakSummary(Math.max(longest, run), run, epochDay);
+    }
+
+    public StreakSummary extend(LocalDate day) {
+        return extend((int) day.toEpochDay());
+    }
+
+    /**
+     * Consecutive workout days ending on {@code day}; 0 when the user didn't train that day.
+     */
+    public int currentAsOf(LocalDate day) {
+        return !isEmpty() && lastDay == day.toEpochDay() ? current : 0;
+    }
+
+    public boolean isEmpty() {
+        return longest == 0;
+    }
+
+    public LocalDate getLastDate() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(lastDay);
+    }
+}
@@ -0,0 +1,29 @@
+package app.progress.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Persisted {@link DayBitmap} of the days a user completed a workout.
+ */
+@Entity
+@Table(name = "user_activity")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserActivity {
+
+    @Id
+    private UUID userId;
+
+    @Column(nullable = false)
+    private int firstDay;
+
+    @Lob
+    @Column(nullable = false, length = DayBitmap.MAX_BYTES)
+    private byte[] days;
+}
@@ -0,0 +1,14 @@
+package app.progress.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A day on which a user logged progress, loaded for a whole batch of users at once.
+ */
+public interface UserWorkoutDay {
+
+    UUID getUserId();
+
+    LocalDate getWorkoutDay();
+}
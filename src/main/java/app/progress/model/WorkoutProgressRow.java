@@ -0,0 +1,23 @@
+package app.progress.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One progress row of the progress page, already joined with its workout, exercise and
+ * category names.
+ */
+public interface WorkoutProgressRow {
+
+    UUID getId();
+
+    UUID getWorkoutId();
+
+    String getWorkoutName();
+
+    LocalDateTime getTimestamp();
+
+    String getExerciseName();
+
+    String getCategoryName();
+}
@@ -1,6 +1,9 @@
 package app.progress.repository;
 
 import app.progress.model.Progress;
+import app.progress.model.ProgressEntry;
+import app.progress.model.UserWorkoutDay;
+import app.progress.model.WorkoutProgressRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +11,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,7 +25,63 @@ public interface ProgressRepository extends JpaRepository<Progress, UUID> {
     @Query("SELECT p FROM Progress p WHERE p.user.id = :userId ORDER BY p.timestamp DESC")
     List<Progress> findRecentProgressByUser(@Param("userId") UUID userId, Pageable pageable);
 
+    @Query("SELECT w.id AS workoutId, p.timestamp AS timestamp, e.name AS exerciseName, c.name AS categoryName " +
+            "FROM Progress p JOIN p.workout w LEFT JOIN p.exercise e LEFT JOIN e.category c " +
+            "WHERE p.user.id = :userId ORDER BY p.timestamp DESC")
+    List<ProgressEntry> findEntriesByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT w.id AS workoutId, p.timestamp AS timestamp, e.name AS exerciseName, c.name AS categoryName " +
+            "FROM Progress p JOIN p.workout w LEFT JOIN p.exercise e LEFT JOIN e.category c " +
+            "WHERE w.id IN :workoutIds ORDER BY p.timestamp DESC")
+    List<ProgressEntry> findEntriesByWorkoutIdIn(@Param("workoutIds") List<UUID> workoutIds);
+
+    @Query("SELECT p.id AS id, w.id AS workoutId, w.name AS workoutName, p.timestamp AS timestamp, " +
+            "e.name AS exerciseName, c.name AS categoryName " +
+            "FROM Progress p JOIN p.workout w LEFT JOIN p.exercise e LEFT JOIN e.category c " +
+            "WHERE p.user.id = :userId ORDER BY p.timestamp DESC, p.id DESC")
+    List<WorkoutProgressRow> findHistoryByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, w.id AS workoutId, w.name AS workoutName, p.timestamp AS timestamp, " +
+            "e.name AS exerciseName, c.name AS categoryName " +
+            "FROM Progress p JOIN p.workout w LEFT JOIN p.exercise e LEFT JOIN e.category c " +
+            "WHERE p.user.id = :userId " +
+            "AND (p.timestamp < :timestamp OR (p.timestamp = :timestamp AND p.id < :id)) " +
+            "ORDER BY p.timestamp DESC, p.id DESC")
+    List<WorkoutProgressRow> findHistoryByUserIdBefore(@Param("userId") UUID userId,
+                                                       @Param("timestamp") LocalDateTime timestamp,
+                                                       @Param("id") UUID id,
+                                                       Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Progress p JOIN p.workout w JOIN w.exercises e " +
+            "WHERE p.user.id = :userId AND p.timestamp >= :since")
+    long countWorkoutExercisesSince(@Param("userId") UUID userId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT COUNT(DISTINCT p.workout.id) FROM Progress p WHERE p.user.id = :userId")
+    long countDistinctWorkoutsByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT COUNT(DISTINCT p.workout.id) FROM Progress p WHERE p.user.id = :userId AND p.timestamp > :since")
+    long countDistinctWorkoutsByUserIdSince(@Param("userId") UUID userId, @Param("since") LocalDateTime since);
+
+    @Query("SELECT DISTINCT CAST(p.timestamp AS LocalDate) FROM Progress p " +
+            "WHERE p.user.id = :userId ORDER BY CAST(p.timestamp AS LocalDate)")
+    List<LocalDate> findDistinctWorkoutDaysByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT DISTINCT p.user.id AS userId, CAST(p.timestamp AS LocalDate) AS workoutDay FROM Progress p " +
+            "WHERE p.user.id IN :userIds")
+    List<UserWorkoutDay> findDistinctWorkoutDaysByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT MAX(p.timestamp) FROM Progress p WHERE p.user.id = :userId")
+    LocalDateTime findLastTimestampByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT c.name FROM Progress p JOIN p.exercise e JOIN e.category c " +
+            "WHERE p.user.id = :userId ORDER BY p.timestamp DESC")
+    List<String> findRecentCategoryNamesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM Progress p WHERE p.workout.id = :workoutId")
     void deleteByWorkoutId(@Param("workoutId") UUID workoutId);
+
+    @Modifying
+    @Query("DELETE FROM Progress p WHERE p.workout.id IN :workoutIds")
+    void deleteByWorkoutIdIn(@Param("workoutIds") List<UUID> workoutIds);
 }
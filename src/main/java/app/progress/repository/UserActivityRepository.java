@@ -0,0 +1,31 @@
+package app.progress.repository;
+
+import app.progress.model.UserActivity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserActivityRepository extends JpaRepository<UserActivity, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM UserActivity a WHERE a.userId = :userId")
+    Optional<UserActivity> findByIdForUpdate(@Param("userId") UUID userId);
+
+    /**
+     * Inserts the user's first bitmap unless another transaction already did, so two first
+     * writes never collide on the key; callers lock the row with {@link #findByIdForUpdate}
+     * afterwards.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_activity (user_id, first_day, days) VALUES (:userId, :firstDay, :days)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("firstDay") int firstDay, @Param("days") byte[] days);
+}
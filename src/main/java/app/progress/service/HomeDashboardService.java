@@ -0,0 +1,91 @@
+package app.progress.service;
+
+import app.category.model.Category;
+import app.category.service.CategoryService;
+import app.exercise.model.Exercise;
+import app.exercise.service.ExerciseCatalog;
+import app.progress.model.ProgressEntry;
+import app.progress.repository.ProgressRepository;
+import app.stats.model.UserHistoryRollup;
+import app.stats.repository.UserHistoryRollupRepository;
+import app.web.dto.HomeDashboard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@Slf4j
+public class HomeDashboardService {
+
+    private final ProgressRepository progressRepository;
+    private final CategoryService categoryService;
+    private final StreakService streakService;
+    private final UserHistoryRollupRepository rollupRepository;
+    private final ExerciseCatalog exerciseCatalog;
+
+    @Autowired
+    public HomeDashboardService(ProgressRepository progressRepository,
+                                CategoryService categoryService,
+                                StreakService streakService,
+                                UserHistoryRollupRepository rollupRepository,
+                                ExerciseCatalog exerciseCatalog) {
+        this.progressRepository = progressRepository;
+        this.categoryService = categoryService;
+        this.streakService = streakService;
+        this.rollupRepository = rollupRepository;
+        this.exerciseCatalog = exerciseCatalog;
+    }
+
+    /**
+     * Builds every figure shown on the home page from a single projection query,
+     * walking the user's history once (newest entry first).
+     */
+    public HomeDashboard getDashboard(UUID userId) {
+        List<ProgressEntry> entries = progressRepository.findEntriesByUserId(userId);
+        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+
+        Set<UUID> workouts = new HashSet<>();
+        Set<UUID> monthlyWorkouts = new HashSet<>();
+        Set<String> lastWorkoutExercises = new LinkedHashSet<>();
+        Map<String, LocalDateTime> lastTrainedMap = new HashMap<>();
+
+        ProgressEntry latest = entries.isEmpty() ? null : entries.get(0);
+
+        for (ProgressEntry entry : entries) {
+            workouts.add(entry.getWorkoutId());
+
+            if (entry.getTimestamp().isAfter(startOfMonth)) {
+                monthlyWorkouts.add(entry.getWorkoutId());
+            }
+            if (entry.getCategoryName() != null) {
+                lastTrainedMap.putIfAbsent(entry.getCategoryName(), entry.getTimestamp());
+            }
+            if (entry.getWorkoutId().equals(latest.getWorkoutId()) && entry.getExerciseName() != null) {
+                lastWorkoutExercises.add(entry.getExerciseName());
+            }
+        }
+
+        Category nextMuscleGroup = categoryService.getNextMuscleGroup(lastTrainedMap);
+        List<Exercise> suggestedExercises = exerciseCatalog.getExercisesByCategory(nextMuscleGroup.getName())
+                .stream()
+                .limit(3)
+                .toList();
+
+        return HomeDashboard.builder()
+                .streak(streakService.getSummary(userId).currentAsOf(LocalDate.now()))
+                .totalWorkouts(workouts.size() + rollupRepository.findById(userId)
+                        .map(UserHistoryRollup::getArchivedWorkouts)
+                        .orElse(0))
+                .lastMuscleGroup(latest != null && latest.getCategoryName() != null ? latest.getCategoryName() : "N/A")
+                .lastWorkoutDate(latest != null ? latest.getTimestamp().toLocalDate().toString() : "N/A")
+                .lastWorkoutExercises(latest != null ? List.copyOf(lastWorkoutExercises) : List.of("No recent workouts"))
+                .monthlyWorkouts(monthlyWorkouts.size())
+                .nextMuscleGroup(nextMuscleGroup)
+                .suggestedExercises(suggestedExercises)
+                .build();
+    }
+}
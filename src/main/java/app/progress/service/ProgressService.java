@@ -1,14 +1,17 @@
 package app.progress.service;
 
-import app.exercise.repository.ExerciseRepository;
 import app.progress.model.Progress;
+import app.progress.model.ProgressCursor;
+import app.progress.model.WorkoutProgressRow;
 import app.progress.repository.ProgressRepository;
-import app.user.repository.UserRepository;
-import app.workout.model.Workout;
-import app.workout.repository.WorkoutRepository;
-import jakarta.transaction.Transactional;
+import app.stats.model.UserHistoryRollup;
+import app.stats.repository.UserHistoryRollupRepository;
+import app.web.dto.ProgressExercise;
+import app.web.dto.ProgressHistoryPage;
+import app.web.dto.WorkoutProgress;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -22,114 +25,136 @@ import java.util.stream.Collectors;
 public class ProgressService {
 
     private final ProgressRepository progressRepository;
-    private final UserRepository userRepository;
-    private final ExerciseRepository exerciseRepository;
-    private final WorkoutRepository workoutRepository;
+    private final StreakService streakService;
+    private final UserHistoryRollupRepository rollupRepository;
+
+    @Value("${progress.history.page-size:50}")
+    private int historyPageSize;
 
     @Autowired
     public ProgressService(ProgressRepository progressRepository,
-                           UserRepository userRepository,
-                           ExerciseRepository exerciseRepository, WorkoutRepository workoutRepository) {
+                           StreakService streakService,
+                           UserHistoryRollupRepository rollupRepository) {
         this.progressRepository = progressRepository;
-        this.userRepository = userRepository;
-        this.exerciseRepository = exerciseRepository;
-        this.workoutRepository = workoutRepository;
+        this.streakService = streakService;
+        this.rollupRepository = rollupRepository;
     }
 
-    @Transactional
-    public void saveWorkoutCompletion(UUID userId, UUID workoutId, UUID exerciseId) {
-        Workout workout = workoutRepository.findById(workoutId)
-                .orElseThrow(() -> new IllegalArgumentException("Workout not found for ID: " + workoutId));
+    public long calculateWorkoutStreak(UUID userId) {
+        return streakService.getSummary(userId).currentAsOf(LocalDate.now());
+    }
 
-        workout = workoutRepository.save(workout);
+    public long calculateLongestStreak(UUID userId) {
+        return streakService.getSummary(userId).getLongest();
+    }
 
-        Progress progress = Progress.builder()
-                .user(userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found")))
-                .workout(workout)
-                .exercise(exerciseId != null ? exerciseRepository.findById(exerciseId).orElse(null) : null)
-                .timestamp(LocalDateTime.now())
-                .build();
+    public List<Progress> getUserProgressSummary(UUID userId) {
+        return progressRepository.findByUserId(userId);
+    }
 
-        progressRepository.save(progress);
+    /**
+     * One keyset page of the user's progress history, newest first, grouped into workouts in a
+     * single pass. Each page costs one index range scan however long the history is. Pages end on
+     * a workout boundary, so every workout arrives whole: a page holds at most {@code size} rows
+     * unless a single workout is longer than that, in which case it is read to its end.
+     */
+    public ProgressHistoryPage getProgressHistory(UUID userId, String cursor) {
+        return getProgressHistory(userId, cursor, historyPageSize);
     }
 
-    public long calculateWorkoutStreak(UUID userId) {
-        List<Progress> progresses = progressRepository
-                .findRecentProgressByUser(userId, PageRequest.of(0, 30));
-        if (progresses.isEmpty()) {
-            return 0;
+    public ProgressHistoryPage getProgressHistory(UUID userId, String cursor, int size) {
+        // One row past the page tells whether the page's last workout continues on the next one.
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<WorkoutProgressRow> rows = new ArrayList<>(cursor == null || cursor.isBlank()
+                ? progressRepository.findHistoryByUserId(userId, limit)
+                : findHistoryBefore(userId, ProgressCursor.parse(cursor), limit));
+
+        boolean more = rows.size() > size;
+        if (more) {
+            UUID cutWorkoutId = rows.get(size).getWorkoutId();
+            int end = size;
+            while (end > 0 && rows.get(end - 1).getWorkoutId().equals(cutWorkoutId)) {
+                end--;
+            }
+            if (end > 0) {
+                rows = rows.subList(0, end);
+            } else {
+                more = readRestOfWorkout(userId, rows, limit);
+            }
         }
-        Set<LocalDate> uniqueWorkoutDays = new HashSet<>();
 
-        for (Progress p : progresses) {
-            uniqueWorkoutDays.add(p.getTimestamp().toLocalDate());
+        List<WorkoutProgress> workouts = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            if (i == rows.size() || !rows.get(i).getWorkoutId().equals(rows.get(start).getWorkoutId())) {
+                workouts.add(toWorkoutProgress(rows.subList(start, i)));
+                start = i;
+            }
         }
-        LocalDate today = LocalDate.now();
-        long streak = 0;
 
-        while (uniqueWorkoutDays.contains(today)) {
-            streak++;
-            today = today.minusDays(1);
-        }
-        return streak;
+        return ProgressHistoryPage.builder()
+                .workouts(workouts)
+                .nextCursor(more ? cursorOf(rows.get(rows.size() - 1)).encode() : null)
+                .build();
     }
 
-    public long calculateLongestStreak(UUID userId) {
-        List<Progress> progresses = progressRepository.findByUserId(userId);
-
-        List<LocalDate> uniqueDates = progresses.stream()
-                .map(progress -> progress.getTimestamp().toLocalDate())
-                .distinct()
-                .sorted()
-                .toList();
-        if (uniqueDates.isEmpty()) {
-            return 0;
-        }
-        long longestStreak = 1;
-        long currentStreak = 1;
-        LocalDate previousDate = uniqueDates.get(0);
-
-        for (int i = 1; i < uniqueDates.size(); i++) {
-            LocalDate currentDate = uniqueDates.get(i);
-            if (currentDate.minusDays(1).equals(previousDate)) {
-                currentStreak++;
-            } else {
-                currentStreak = 1;
+    // Appends the rest of the one workout filling the page; returns whether any rows follow it.
+    private boolean readRestOfWorkout(UUID userId, List<WorkoutProgressRow> rows, PageRequest limit) {
+        UUID workoutId = rows.get(0).getWorkoutId();
+        while (true) {
+            List<WorkoutProgressRow> next = findHistoryBefore(userId, cursorOf(rows.get(rows.size() - 1)), limit);
+            for (WorkoutProgressRow row : next) {
+                if (!row.getWorkoutId().equals(workoutId)) {
+                    return true;
+                }
+                rows.add(row);
+            }
+            if (next.size() < limit.getPageSize()) {
+                return false;
             }
-            longestStreak = Math.max(longestStreak, currentStreak);
-            previousDate = currentDate;
         }
+    }
 
-        return longestStreak;
+    private List<WorkoutProgressRow> findHistoryBefore(UUID userId, ProgressCursor cursor, PageRequest limit) {
+        return progressRepository.findHistoryByUserIdBefore(userId, cursor.getTimestamp(), cursor.getId(), limit);
     }
 
-    public List<Progress> getUserProgressSummary(UUID userId) {
-        return progressRepository.findByUserId(userId);
+    private static ProgressCursor cursorOf(WorkoutProgressRow row) {
+        return new ProgressCursor(row.getTimestamp(), row.getId());
+    }
+
+    // Rows of one workout, newest first.
+    private static WorkoutProgress toWorkoutProgress(List<WorkoutProgressRow> rows) {
+        return WorkoutProgress.builder()
+                .workoutId(rows.get(0).getWorkoutId())
+                .workoutName(rows.get(0).getWorkoutName())
+                .latestTimestamp(rows.get(0).getTimestamp())
+                .exercises(rows.stream()
+                        .filter(row -> row.getExerciseName() != null)
+                        .map(row -> new ProgressExercise(row.getExerciseName(), row.getCategoryName()))
+                        .toList())
+                .build();
     }
 
     public int getTotalWorkouts(UUID userId) {
-        return (int) progressRepository.findByUserId(userId).stream()
-                .map(Progress::getWorkout)
-                .distinct()
-                .count();
+        int archived = rollupRepository.findById(userId)
+                .map(UserHistoryRollup::getArchivedWorkouts)
+                .orElse(0);
+
+        return archived + (int) progressRepository.countDistinctWorkoutsByUserId(userId);
     }
 
     public String getLastWorkoutMuscleGroup(UUID userId) {
-        List<Progress> progresses = progressRepository.findByUserId(userId);
-        if (progresses.isEmpty()) return "N/A";
-
-        return progresses.stream()
-                .max(Comparator.comparing(Progress::getTimestamp))
-                .map(p -> p.getExercise().getCategory().getName())
+        return progressRepository.findRecentCategoryNamesByUserId(userId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
                 .orElse("N/A");
     }
 
     public String getLastWorkoutDate(UUID userId) {
-        Optional<Progress> lastProgress = progressRepository.findByUserId(userId)
-                .stream()
-                .max(Comparator.comparing(Progress::getTimestamp));
+        LocalDateTime lastTimestamp = progressRepository.findLastTimestampByUserId(userId);
 
-        return lastProgress.map(progress -> progress.getTimestamp().toLocalDate().toString()).orElse("N/A");
+        return lastTimestamp != null ? lastTimestamp.toLocalDate().toString() : "N/A";
     }
 
     public List<String> getLastWorkoutExercises(UUID userId) {
@@ -150,19 +175,12 @@ public class ProgressService {
     public int getMonthlyWorkoutCount(UUID userId) {
         LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
 
-        return (int) progressRepository.findByUserId(userId).stream()
-                .filter(progress -> progress.getTimestamp().isAfter(startOfMonth))
-                .map(Progress::getWorkout)
-                .distinct()
-                .count();
+        return (int) progressRepository.countDistinctWorkoutsByUserIdSince(userId, startOfMonth);
     }
 
     public int getSetsDoneThisWeek(UUID userId) {
         LocalDateTime oneWeekAgo = LocalDateTime.now().minusDays(7);
 
-        return progressRepository.findByUserId(userId).stream()
-                .filter(progress -> progress.getTimestamp().isAfter(oneWeekAgo))
-                .mapToInt(progress -> progress.getWorkout().getExercises().size())
-                .sum();
+        return (int) progressRepository.countWorkoutExercisesSince(userId, oneWeekAgo);
     }
 }
@@ -0,0 +1,178 @@
+package app.progress.service;
+
+import app.progress.model.DayBitmap;
+import app.progress.model.StreakSummary;
+import app.progress.model.UserActivity;
+import app.progress.model.UserWorkoutDay;
+import app.progress.repository.ProgressRepository;
+import app.progress.repository.UserActivityRepository;
+import app.stats.model.UserHistoryRollup;
+import app.stats.repository.UserHistoryRollupRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class StreakService {
+
+    public static final String STREAKS_CACHE = "streaks";
+
+    private final ProgressRepository progressRepository;
+    private final UserActivityRepository userActivityRepository;
+    private final UserHistoryRollupRepository rollupRepository;
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public StreakService(ProgressRepository progressRepository,
+                         UserActivityRepository userActivityRepository,
+                         UserHistoryRollupRepository rollupRepository,
+                         CacheManager cacheManager) {
+        this.progressRepository = progressRepository;
+        this.userActivityRepository = userActivityRepository;
+        this.rollupRepository = rollupRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Reads never write: a user without a bitmap gets one built in memory, and their next
+     * recorded day persists it under the row lock.
+     */
+    @Cacheable(value = STREAKS_CACHE, key = "#userId")
+    public StreakSummary getSummary(UUID userId) {
+        return loadBitmap(userId).toSummary();
+    }
+
+    /**
+     * Current streak ending on {@code day} for a whole batch of users, read from their
+     * activity bitmaps with one query. Bitmaps for the users that have none yet are built
+     * from their history and archive rollups with two more queries for the whole batch; they
+     * are not saved here, the user's next recorded day does that.
+     */
+    public Map<UUID, Long> getCurrentStreaks(Collection<UUID> userIds, LocalDate day) {
+        int epochDay = (int) day.toEpochDay();
+        Map<UUID, Long> streaks = new HashMap<>();
+
+        for (UserActivity activity : userActivityRepository.findAllById(userIds)) {
+            DayBitmap bitmap = DayBitmap.fromBytes(activity.getFirstDay(), activity.getDays());
+            streaks.put(activity.getUserId(), (long) bitmap.trailingRun(epochDay));
+        }
+
+        List<UUID> missing = userIds.stream().filter(userId -> !streaks.containsKey(userId)).toList();
+        if (!missing.isEmpty()) {
+            buildBitmaps(missing).forEach((userId, bitmap) -> streaks.put(userId, (long) bitmap.trailingRun(epochDay)));
+        }
+        return streaks;
+    }
+
+    /**
+     * Sets the day's bit in the user's activity bitmap and extends the cached summary
+     * in O(1) instead of rescanning the history. The row stays locked until commit, so
+     * concurrent completions for the same user cannot overwrite each other's day, and a day
+     * that is already set is not written again. A user's first bitmap is built from the
+     * history and inserted only if absent before the row is locked, so two first writes
+     * cannot collide either. The cached summary is only extended once the transaction has
+     * committed, so a rollback leaves it untouched.
+     */
+    @Transactional
+    public void recordWorkoutDay(UUID userId, LocalDate day) {
+        UserActivity activity = lockActivity(userId);
+        DayBitmap bitmap = DayBitmap.fromBytes(activity.getFirstDay(), activity.getDays());
+        if (!bitmap.isSet((int) day.toEpochDay())) {
+            bitmap.set(day);
+            writeBitmap(activity, bitmap);
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            extendCachedSummary(userId, day);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                extendCachedSummary(userId, day);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds the user's bitmap from the progress history and the archived days, e.g. after
+     * a workout was deleted.
+     */
+    @Transactional
+    @CacheEvict(value = STREAKS_CACHE, key = "#userId")
+    public void rebuild(UUID userId) {
+        UserActivity activity = lockActivity(userId);
+        writeBitmap(activity, buildBitmap(userId));
+    }
+
+    private void extendCachedSummary(UUID userId, LocalDate day) {
+        Cache cache = cacheManager.getCache(STREAKS_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        StreakSummary summary = cache.get(userId, StreakSummary.class);
+        if (summary != null) {
+            cache.put(userId, summary.extend(day));
+        }
+    }
+
+    private DayBitmap loadBitmap(UUID userId) {
+        return userActivityRepository.findById(userId)
+                .map(activity -> DayBitmap.fromBytes(activity.getFirstDay(), activity.getDays()))
+                .orElseGet(() -> buildBitmap(userId));
+    }
+
+    private UserActivity lockActivity(UUID userId) {
+        return userActivityRepository.findByIdForUpdate(userId).orElseGet(() -> {
+            DayBitmap bitmap = buildBitmap(userId);
+            userActivityRepository.insertIfAbsent(userId, bitmap.getFirstDay(), bitmap.toByteArray());
+            return userActivityRepository.findByIdForUpdate(userId).orElseThrow();
+        });
+    }
+
+    private DayBitmap buildBitmap(UUID userId) {
+        DayBitmap bitmap = rollupRepository.findById(userId)
+                .map(UserHistoryRollup::toBitmap)
+                .orElseGet(DayBitmap::empty);
+        for (LocalDate day : progressRepository.findDistinctWorkoutDaysByUserId(userId)) {
+            bitmap.set(day);
+        }
+        return bitmap;
+    }
+
+    private Map<UUID, DayBitmap> buildBitmaps(List<UUID> userIds) {
+        Map<UUID, DayBitmap> bitmaps = new HashMap<>();
+        for (UUID userId : userIds) {
+            bitmaps.put(userId, DayBitmap.empty());
+        }
+        for (UserHistoryRollup rollup : rollupRepository.findAllById(userIds)) {
+            bitmaps.put(rollup.getUserId(), rollup.toBitmap());
+        }
+        for (UserWorkoutDay workoutDay : progressRepository.findDistinctWorkoutDaysByUserIdIn(userIds)) {
+            bitmaps.get(workoutDay.getUserId()).set(workoutDay.getWorkoutDay());
+        }
+        return bitmaps;
+    }
+
+    private void writeBitmap(UserActivity activity, DayBitmap bitmap) {
+        activity.setFirstDay(bitmap.getFirstDay());
+        activity.setDays(bitmap.toByteArray());
+        userActivityRepository.save(activity);
+    }
+}
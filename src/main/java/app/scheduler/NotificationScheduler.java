@@ -1,14 +1,32 @@
 package app.scheduler;
 
+import app.notification.client.dto.NotificationRequest;
+import app.notification.service.NotificationBatcher;
 import app.notification.service.NotificationService;
-import app.user.model.User;
+import app.progress.service.StreakService;
+import app.user.model.UserIdProjection;
 import app.user.service.UserService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 @Slf4j
@@ -16,23 +34,117 @@ public class NotificationScheduler {
 
     private final UserService userService;
     private final NotificationService notificationService;
+    private final NotificationBatcher notificationBatcher;
+    private final StreakService streakService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notifications.scheduler.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${notifications.scheduler.concurrency:16}")
+    private int concurrency;
 
     @Autowired
     public NotificationScheduler(UserService userService,
-                                 NotificationService notificationService) {
+                                 NotificationService notificationService,
+                                 NotificationBatcher notificationBatcher,
+                                 StreakService streakService,
+                                 MeterRegistry meterRegistry) {
         this.userService = userService;
         this.notificationService = notificationService;
+        this.notificationBatcher = notificationBatcher;
+        this.streakService = streakService;
+        this.meterRegistry = meterRegistry;
     }
 
+    /**
+     * Walks the users in id-ordered chunks, skipping inactive accounts, resolves the streaks of a
+     * whole chunk with one query and fans the chunk out as bulk sends over a bounded pool, so N
+     * users cost N / batch-size round trips. A chunk is fully sent before the next is loaded.
+     */
     @Scheduled(cron = "0 0 9 * * ?")
     public void dailyWorkoutNotifications() {
-        List<User> allUsers = userService.getAllUsers();
-        for (User user : allUsers) {
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                new CustomizableThreadFactory("notification-sender-"));
+
+        try {
+            UUID after = null;
+            List<UserIdProjection> chunk;
+            do {
+                chunk = userService.getUserChunk(after, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                after = chunk.get(chunk.size() - 1).getId();
+
+                List<UserIdProjection> activeUsers = chunk.stream().filter(UserIdProjection::isActive).toList();
+                List<UUID> userIds = activeUsers.stream().map(UserIdProjection::getId).toList();
+                Map<UUID, Long> streaks = streakService.getCurrentStreaks(userIds, today);
+
+                List<NotificationRequest> requests = new ArrayList<>(activeUsers.size());
+                for (UserIdProjection user : activeUsers) {
+                    NotificationRequest request = notificationService
+                            .buildWorkoutNotification(user.getId(), streaks.getOrDefault(user.getId(), 0L));
+                    request.setContactInfo(user.getEmail());
+                    requests.add(request);
+                }
+
+                List<Future<?>> sends = new ArrayList<>();
+                int batchSize = notificationBatcher.getBatchSize();
+                for (int from = 0; from < requests.size(); from += batchSize) {
+                    List<NotificationRequest> batch = requests.subList(from, Math.min(from + batchSize, requests.size()));
+                    sends.add(executor.submit(() -> send(batch, sent, failed)));
+                }
+                awaitAll(sends);
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("Daily notifications interrupted after {} sent.", sent.get());
+                    break;
+                }
+            } while (chunk.size() == chunkSize);
+        } finally {
+            executor.shutdown();
+        }
+
+        recordRun(System.nanoTime() - start, sent.get(), failed.get());
+    }
+
+    private void send(List<NotificationRequest> batch, AtomicInteger sent, AtomicInteger failed) {
+        int delivered = notificationBatcher.send(batch);
+        sent.addAndGet(delivered);
+        failed.addAndGet(batch.size() - delivered);
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
             try {
-                notificationService.checkAndSendWorkoutNotification(user.getId());
-            } catch (Exception e) {
-                log.warn("Failed to send notification for user {}: {}", user.getId(), e.getMessage());
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.warn("Notification task failed: {}", e.getCause().getMessage());
             }
         }
     }
+
+    private void recordRun(long durationNanos, int sent, int failed) {
+        Timer.builder("notifications.daily.duration")
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("notifications.daily.sent").increment(sent);
+        meterRegistry.counter("notifications.daily.failed").increment(failed);
+
+        double seconds = Math.max(durationNanos / 1_000_000_000.0, 0.001);
+        DistributionSummary.builder("notifications.daily.throughput")
+                .baseUnit("users/s")
+                .register(meterRegistry)
+                .record((sent + failed) / seconds);
+
+        log.info("Daily notifications finished: {} sent, {} failed in {} ms.",
+                sent, failed, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
 }
@@ -0,0 +1,51 @@
+package app.scheduler;
+
+import app.stats.service.UserStatsService;
+import app.user.model.UserIdProjection;
+import app.user.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class UserStatsRebuildScheduler {
+
+    private final UserService userService;
+    private final UserStatsService userStatsService;
+
+    @Value("${stats.rebuild.chunk-size:500}")
+    private int chunkSize;
+
+    @Autowired
+    public UserStatsRebuildScheduler(UserService userService,
+                                     UserStatsService userStatsService) {
+        this.userService = userService;
+        this.userStatsService = userStatsService;
+    }
+
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void rebuildUserStats() {
+        int rebuilt = 0;
+        UUID after = null;
+        List<UserIdProjection> chunk;
+        do {
+            chunk = userService.getUserChunk(after, chunkSize);
+            for (UserIdProjection user : chunk) {
+                try {
+                    userStatsService.rebuild(user.getId());
+                    rebuilt++;
+                } catch (Exception e) {
+                    log.warn("Failed to rebuild stats for user {}: {}", user.getId(), e.getMessage());
+                }
+                after = user.getId();
+            }
+        } while (chunk.size() == chunkSize);
+        log.info("Rebuilt stats for {} users.", rebuilt);
+    }
+}
@@ -1,6 +1,7 @@
 package app.scheduler;
 
 import app.workout.service.WorkoutService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 
 @Component
+@Slf4j
 public class WorkoutCleanupScheduler {
 
     private final WorkoutService workoutService;
@@ -18,10 +20,10 @@ public class WorkoutCleanupScheduler {
     }
 
     @Scheduled(cron = "0 0 0 1 * ?")
-    public void deleteOldWorkouts() {
+    public void archiveOldWorkouts() {
         LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
 
-        int deleted = workoutService.deleteWorkoutsBefore(oneMonthAgo);
-        System.out.println("🗑 Deleted " + deleted + " old workouts.");
+        int archived = workoutService.archiveWorkoutsBefore(oneMonthAgo);
+        log.info("Archived {} old workouts.", archived);
     }
 }
@@ -0,0 +1,64 @@
+package app.security;
+
+import app.user.service.UserService;
+import app.web.dto.UserView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters to the logged-in user's view. The view is loaded at most
+ * once per request and kept as a request attribute, so model attributes, handlers and exception
+ * handlers of the same request all share it. Anonymous requests resolve to null.
+ */
+@Component
+public class CurrentUserResolver implements HandlerMethodArgumentResolver {
+
+    private static final String ATTRIBUTE = CurrentUserResolver.class.getName() + ".user";
+
+    private final UserService userService;
+
+    // Lazy: UserService reaches the Feign client, which needs the MVC configuration this resolver is part of.
+    @Autowired
+    public CurrentUserResolver(@Lazy UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && UserView.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        return resolve(webRequest);
+    }
+
+    public UserView resolve(RequestAttributes requestAttributes) {
+        Object cached = requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (UserView) cached;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticationMetadata principal)) {
+            return null;
+        }
+
+        UserView user = userService.getUserView(principal.getUserId());
+        requestAttributes.setAttribute(ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+}
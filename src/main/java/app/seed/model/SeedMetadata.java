@@ -0,0 +1,29 @@
+package app.seed.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Which version of a seed data set has been applied to this database.
+ */
+@Entity
+@Table(name = "seed_metadata")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedMetadata {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private int version;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedOn;
+}
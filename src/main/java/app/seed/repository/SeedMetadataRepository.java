@@ -0,0 +1,9 @@
+package app.seed.repository;
+
+import app.seed.model.SeedMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeedMetadataRepository extends JpaRepository<SeedMetadata, String> {
+}
@@ -0,0 +1,137 @@
+package app.seed.service;
+
+import app.category.model.Category;
+import app.category.repository.CategoryRepository;
+import app.exercise.model.Exercise;
+import app.exercise.repository.ExerciseRepository;
+import app.seed.model.SeedMetadata;
+import app.seed.repository.SeedMetadataRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds the categories and exercises from {@code seed/categories.tsv} and
+ * {@code seed/exercises.tsv}. The applied version is recorded in {@code seed_metadata}, so a
+ * restart against a seeded database costs one primary-key lookup. Bump {@link #CATALOG_VERSION}
+ * whenever the seed files change; rows missing by name are then inserted and existing rows are
+ * left as they are.
+ */
+@Slf4j
+@Service
+public class CatalogSeedService {
+
+    public static final String CATALOG_SEED = "catalog";
+    public static final int CATALOG_VERSION = 1;
+
+    private static final String CATEGORIES_FILE = "seed/categories.tsv";
+    private static final String EXERCISES_FILE = "seed/exercises.tsv";
+
+    private final SeedMetadataRepository seedMetadataRepository;
+    private final CategoryRepository categoryRepository;
+    private final ExerciseRepository exerciseRepository;
+
+    @Autowired
+    public CatalogSeedService(SeedMetadataRepository seedMetadataRepository,
+                              CategoryRepository categoryRepository,
+                              ExerciseRepository exerciseRepository) {
+        this.seedMetadataRepository = seedMetadataRepository;
+        this.categoryRepository = categoryRepository;
+        this.exerciseRepository = exerciseRepository;
+    }
+
+    /**
+     * @return whether the seed was applied, {@code false} when the database was already current
+     */
+    @Transactional
+    public boolean seed() {
+        boolean current = seedMetadataRepository.findById(CATALOG_SEED)
+                .map(metadata -> metadata.getVersion() >= CATALOG_VERSION)
+                .orElse(false);
+        if (current) {
+            log.debug("Catalog seed version {} already applied", CATALOG_VERSION);
+            return false;
+        }
+
+        Map<String, Category> categories = categoryRepository.findAll().stream()
+                .collect(Collectors.toMap(Category::getName, Function.identity()));
+        List<Category> newCategories = new ArrayList<>();
+        for (String[] row : read(CATEGORIES_FILE, 2)) {
+            if (!categories.containsKey(row[0])) {
+                Category category = Category.builder().name(row[0]).imageUrl(row[1]).build();
+                categories.put(row[0], category);
+                newCategories.add(category);
+            }
+        }
+        categoryRepository.saveAll(newCategories);
+
+        Set<String> existingExercises = new HashSet<>();
+        for (Exercise exercise : exerciseRepository.findAllWithCategory()) {
+            existingExercises.add(key(exercise.getCategory().getName(), exercise.getName()));
+        }
+        List<Exercise> newExercises = new ArrayList<>();
+        for (String[] row : read(EXERCISES_FILE, 6)) {
+            if (existingExercises.add(key(row[0], row[1]))) {
+                newExercises.add(Exercise.builder()
+                        .category(categories.get(row[0]))
+                        .name(row[1])
+                        .sets(Integer.parseInt(row[2]))
+                        .reps(Integer.parseInt(row[3]))
+                        .gifUrl(row[4])
+                        .description(row[5])
+                        .build());
+            }
+        }
+        exerciseRepository.saveAll(newExercises);
+
+        seedMetadataRepository.save(SeedMetadata.builder()
+                .name(CATALOG_SEED)
+                .version(CATALOG_VERSION)
+                .appliedOn(LocalDateTime.now())
+                .build());
+        log.info("Applied catalog seed version {}: {} categories and {} exercises inserted",
+                CATALOG_VERSION, newCategories.size(), newExercises.size());
+        return true;
+    }
+
+    private static String key(String categoryName, String exerciseName) {
+        return categoryName + '\t' + exerciseName;
+    }
+
+    private static List<String[]> read(String file, int columns) {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(file).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] row = line.split("\t", -1);
+                if (row.length != columns) {
+                    throw new IllegalStateException("Expected " + columns + " columns in " + file + ": " + line);
+                }
+                rows.add(row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read seed file " + file, e);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,69 @@
+package app.stats.model;
+
+import app.progress.model.DayBitmap;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-user totals of the workouts moved to the archive tier. Stats and streak rebuilds add
+ * these to whatever is still in the hot progress table.
+ */
+@Entity
+@Table(name = "user_history_rollup")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserHistoryRollup {
+
+    @Id
+    private UUID userId;
+
+    private int archivedWorkouts;
+
+    @Column(nullable = false)
+    private int firstDay;
+
+    @Lob
+    @Column(nullable = false, length = DayBitmap.MAX_BYTES)
+    private byte[] days;
+
+    private LocalDateTime lastWorkoutOn;
+
+    private String lastMuscleGroup;
+
+    public static UserHistoryRollup empty(UUID userId) {
+        return UserHistoryRollup.builder()
+                .userId(userId)
+                .days(new byte[0])
+                .build();
+    }
+
+    public DayBitmap toBitmap() {
+        return DayBitmap.fromBytes(firstDay, days);
+    }
+
+    /**
+     * Folds one archived workout into the totals. {@code completedOn} and {@code muscleGroup}
+     * come from its most recent progress row.
+     */
+    public void add(LocalDateTime completedOn, String muscleGroup, Iterable<LocalDate> workoutDays) {
+        DayBitmap bitmap = toBitmap();
+        workoutDays.forEach(bitmap::set);
+        firstDay = bitmap.getFirstDay();
+        days = bitmap.toByteArray();
+        archivedWorkouts++;
+
+        if (lastWorkoutOn == null || completedOn.isAfter(lastWorkoutOn)) {
+            lastWorkoutOn = completedOn;
+            if (muscleGroup != null) {
+                lastMuscleGroup = muscleGroup;
+            }
+        }
+    }
+}
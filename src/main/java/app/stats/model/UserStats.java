@@ -0,0 +1,45 @@
+package app.stats.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Per-user read model for the stats API. Maintained incrementally on every workout
+ * completion and rebuilt from the progress history on demand.
+ */
+@Entity
+@Table(name = "user_stats")
+@Builder(toBuilder = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStats {
+
+    @Id
+    private UUID userId;
+
+    private int totalWorkouts;
+
+    private int currentStreak;
+
+    private int longestStreak;
+
+    private LocalDate lastWorkoutDate;
+
+    private String lastMuscleGroup;
+
+    private LocalDate monthStart;
+
+    private int monthlyWorkouts;
+
+    private LocalDate weekStart;
+
+    private int weeklySets;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,11 @@
+package app.stats.repository;
+
+import app.stats.model.UserHistoryRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface UserHistoryRollupRepository extends JpaRepository<UserHistoryRollup, UUID> {
+}
@@ -0,0 +1,34 @@
+package app.stats.repository;
+
+import app.stats.model.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStats s WHERE s.userId = :userId")
+    Optional<UserStats> findByIdForUpdate(@Param("userId") UUID userId);
+
+    /**
+     * Inserts the user's first stats row unless another transaction already did; returns 0 in
+     * that case and the caller locks the existing row with {@link #findByIdForUpdate} instead.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_stats (user_id, total_workouts, current_streak, longest_streak, " +
+            "last_workout_date, last_muscle_group, month_start, monthly_workouts, week_start, weekly_sets, version) " +
+            "VALUES (:#{#stats.userId}, :#{#stats.totalWorkouts}, :#{#stats.currentStreak}, :#{#stats.longestStreak}, " +
+            ":#{#stats.lastWorkoutDate}, :#{#stats.lastMuscleGroup}, :#{#stats.monthStart}, " +
+            ":#{#stats.monthlyWorkouts}, :#{#stats.weekStart}, :#{#stats.weeklySets}, 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("stats") UserStats stats);
+}
@@ -0,0 +1,185 @@
+package app.stats.service;
+
+import app.exception.UserNotFoundException;
+import app.progress.model.DayBitmap;
+import app.progress.model.ProgressEntry;
+import app.progress.model.StreakSummary;
+import app.progress.repository.ProgressRepository;
+import app.stats.model.UserHistoryRollup;
+import app.stats.model.UserStats;
+import app.stats.repository.UserHistoryRollupRepository;
+import app.stats.repository.UserStatsRepository;
+import app.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+@Service
+@Slf4j
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final ProgressRepository progressRepository;
+    private final UserHistoryRollupRepository rollupRepository;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public UserStatsService(UserStatsRepository userStatsRepository,
+                            ProgressRepository progressRepository,
+                            UserHistoryRollupRepository rollupRepository,
+                            UserRepository userRepository) {
+        this.userStatsRepository = userStatsRepository;
+        this.progressRepository = progressRepository;
+        this.rollupRepository = rollupRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns the user's stats as of today. Counters whose period (streak day, month, week)
+     * has already passed are reported as zero without touching the stored row. A user without
+     * a row yet (it is written by their first completion or the nightly rebuild) gets stats
+     * computed from the history without saving them, so reads never write.
+     */
+    public UserStats getStats(UUID userId) {
+        UserStats stats = userStatsRepository.findById(userId).orElseGet(() -> {
+            if (!userRepository.existsById(userId)) {
+                throw new UserNotFoundException("User with id [%s] does not exist.".formatted(userId));
+            }
+            return compute(userId);
+        });
+
+        return asOf(stats, LocalDate.now());
+    }
+
+    /**
+     * Applies {@code completions} progress rows of one workout with {@code workoutExercises}
+     * exercises in a single read-modify-write of the stats row. The row is locked until commit,
+     * so concurrent completions and the nightly rebuild wait for each other instead of failing
+     * the workout save. A user's first row is computed from the history, which already holds
+     * this workout, and inserted only if absent.
+     */
+    @Transactional
+    public void recordCompletions(UUID userId, int completions, int workoutExercises, String muscleGroup,
+                                  LocalDateTime timestamp, boolean newWorkout) {
+        Optional<UserStats> optionalStats = userStatsRepository.findByIdForUpdate(userId);
+        if (optionalStats.isEmpty()) {
+            if (userStatsRepository.insertIfAbsent(compute(userId)) > 0) {
+                return;
+            }
+            optionalStats = userStatsRepository.findByIdForUpdate(userId);
+        }
+
+        UserStats stats = optionalStats.orElseThrow();
+        LocalDate day = timestamp.toLocalDate();
+        rollPeriods(stats, day);
+
+        if (newWorkout) {
+            stats.setTotalWorkouts(stats.getTotalWorkouts() + 1);
+            stats.setMonthlyWorkouts(stats.getMonthlyWorkouts() + 1);
+        }
+        stats.setWeeklySets(stats.getWeeklySets() + completions * workoutExercises);
+
+        if (muscleGroup != null) {
+            stats.setLastMuscleGroup(muscleGroup);
+        }
+
+        LocalDate lastDay = stats.getLastWorkoutDate();
+        if (lastDay == null || day.isAfter(lastDay)) {
+            boolean consecutive = lastDay != null && lastDay.plusDays(1).equals(day);
+            stats.setCurrentStreak(consecutive ? stats.getCurrentStreak() + 1 : 1);
+            stats.setLongestStreak(Math.max(stats.getLongestStreak(), stats.getCurrentStreak()));
+            stats.setLastWorkoutDate(day);
+        }
+
+        userStatsRepository.save(stats);
+    }
+
+    /**
+     * Recomputes the user's stats from the hot progress history plus the rollup of whatever
+     * has already been archived. The row is locked before the history is read, so a completion
+     * committing meanwhile is either counted or applied on top afterwards.
+     */
+    @Transactional
+    public UserStats rebuild(UUID userId) {
+        Optional<UserStats> existing = userStatsRepository.findByIdForUpdate(userId);
+        if (existing.isEmpty()) {
+            UserStats stats = compute(userId);
+            if (userStatsRepository.insertIfAbsent(stats) > 0) {
+                return stats;
+            }
+            existing = userStatsRepository.findByIdForUpdate(userId);
+        }
+
+        UserStats stats = compute(userId);
+        stats.setVersion(existing.orElseThrow().getVersion());
+        return userStatsRepository.save(stats);
+    }
+
+    private UserStats compute(UUID userId) {
+        List<ProgressEntry> entries = progressRepository.findEntriesByUserId(userId);
+        UserHistoryRollup rollup = rollupRepository.findById(userId).orElseGet(() -> UserHistoryRollup.empty(userId));
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        Set<UUID> workouts = new HashSet<>();
+        Set<UUID> monthlyWorkouts = new HashSet<>();
+        DayBitmap workoutDays = rollup.toBitmap();
+
+        for (ProgressEntry entry : entries) {
+            LocalDate day = entry.getTimestamp().toLocalDate();
+            workouts.add(entry.getWorkoutId());
+            workoutDays.set(day);
+            if (!day.isBefore(monthStart)) {
+                monthlyWorkouts.add(entry.getWorkoutId());
+            }
+        }
+
+        StreakSummary streak = workoutDays.toSummary();
+
+        return UserStats.builder()
+                .userId(userId)
+                .totalWorkouts(rollup.getArchivedWorkouts() + workouts.size())
+                .currentStreak(streak.getCurrent())
+                .longestStreak(streak.getLongest())
+                .lastWorkoutDate(streak.getLastDate())
+                .lastMuscleGroup(entries.isEmpty() ? rollup.getLastMuscleGroup() : entries.get(0).getCategoryName())
+                .monthStart(monthStart)
+                .monthlyWorkouts(monthlyWorkouts.size())
+                .weekStart(weekStart)
+                .weeklySets((int) progressRepository.countWorkoutExercisesSince(userId, weekStart.atStartOfDay()))
+                .build();
+    }
+
+    private void rollPeriods(UserStats stats, LocalDate day) {
+        LocalDate monthStart = day.withDayOfMonth(1);
+        LocalDate weekStart = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        if (!monthStart.equals(stats.getMonthStart())) {
+            stats.setMonthStart(monthStart);
+            stats.setMonthlyWorkouts(0);
+        }
+        if (!weekStart.equals(stats.getWeekStart())) {
+            stats.setWeekStart(weekStart);
+            stats.setWeeklySets(0);
+        }
+    }
+
+    private UserStats asOf(UserStats stats, LocalDate today) {
+        UserStats view = stats.toBuilder().build();
+        rollPeriods(view, today);
+
+        LocalDate lastDay = view.getLastWorkoutDate();
+        if (lastDay == null || lastDay.isBefore(today.minusDays(1))) {
+            view.setCurrentStreak(0);
+        }
+        return view;
+    }
+}
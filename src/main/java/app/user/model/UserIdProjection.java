@@ -0,0 +1,12 @@
+package app.user.model;
+
+import java.util.UUID;
+
+public interface UserIdProjection {
+
+    UUID getId();
+
+    String getEmail();
+
+    boolean isActive();
+}
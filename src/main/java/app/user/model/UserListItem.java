@@ -0,0 +1,16 @@
+package app.user.model;
+
+import java.util.UUID;
+
+public interface UserListItem {
+
+    UUID getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    UserRole getRole();
+
+    boolean isActive();
+}
@@ -1,11 +1,18 @@
 package app.user.repository;
 
 import app.user.model.User;
+import app.user.model.UserIdProjection;
+import app.user.model.UserListItem;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,4 +21,22 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     @Fetch(FetchMode.JOIN)
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.isActive AS active FROM User u ORDER BY u.id")
+    List<UserIdProjection> findIdChunk(Pageable pageable);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.isActive AS active FROM User u WHERE u.id > :after ORDER BY u.id")
+    List<UserIdProjection> findIdChunkAfter(@Param("after") UUID after, Pageable pageable);
+
+    // Patterns are prefix matches ("abc%") so the unique indexes on username and email can be used.
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.email AS email, u.role AS role, u.isActive AS active " +
+            "FROM User u WHERE u.username LIKE :pattern ESCAPE '!' OR u.email LIKE :pattern ESCAPE '!'",
+            countQuery = "SELECT COUNT(u) FROM User u WHERE u.username LIKE :pattern ESCAPE '!' OR u.email LIKE :pattern ESCAPE '!'")
+    Page<UserListItem> searchByPrefix(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email, u.role AS role, u.isActive AS active " +
+            "FROM User u WHERE u.username > :after " +
+            "AND (u.username LIKE :pattern ESCAPE '!' OR u.email LIKE :pattern ESCAPE '!') " +
+            "ORDER BY u.username")
+    List<UserListItem> searchByPrefixAfter(@Param("pattern") String pattern, @Param("after") String after, Pageable pageable);
 }
@@ -3,17 +3,24 @@ package app.user.service;
 import app.exception.DomainException;
 import app.notification.service.NotificationService;
 import app.user.model.User;
+import app.user.model.UserIdProjection;
+import app.user.model.UserListItem;
 import app.user.model.UserRole;
 import app.user.repository.UserRepository;
 import app.exception.UsernameAlreadyExistException;
 import app.security.AuthenticationMetadata;
 import app.web.dto.RegisterRequest;
 import app.web.dto.UserEditRequest;
+import app.web.dto.UserView;
+import app.web.mapper.DtoMapper;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -23,12 +30,17 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Slf4j
 public class UserService implements UserDetailsService {
 
+    public static final String USER_VIEWS_CACHE = "userViews";
+    public static final int USERS_PAGE_SIZE = 25;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("username", "email", "role", "createdOn");
+
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
@@ -42,7 +54,6 @@ public class UserService implements UserDetailsService {
         this.notificationService = notificationService;
     }
 
-    @CacheEvict(value = "users", allEntries = true)
     @Transactional
     public User register(RegisterRequest registerRequest) {
         Optional<User> optionUser = userRepository.findByUsername(registerRequest.getUsername());
@@ -59,7 +70,7 @@ public class UserService implements UserDetailsService {
         return user;
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = USER_VIEWS_CACHE, key = "#userId")
     public void editUserDetails(UUID userId, UserEditRequest userEditRequest) {
 
         User user = getById(userId);
@@ -92,10 +103,54 @@ public class UserService implements UserDetailsService {
                 .build();
     }
 
-    @Cacheable("users")
-    public List<User> getAllUsers() {
+    /**
+     * Next chunk of users in id order, starting after {@code after} (or from the start when null).
+     * Only id, email and active flag are loaded, so callers can walk every user in constant memory.
+     */
+    public List<UserIdProjection> getUserChunk(UUID after, int size) {
+
+        PageRequest limit = PageRequest.of(0, size);
+        return after == null
+                ? userRepository.findIdChunk(limit)
+                : userRepository.findIdChunkAfter(after, limit);
+    }
+
+    public Page<UserListItem> searchUsers(String prefix, int page, String sortField, String direction) {
+
+        String field = SORTABLE_FIELDS.contains(sortField) ? sortField : "username";
+        Sort sort = Sort.by(Sort.Direction.fromOptionalString(direction).orElse(Sort.Direction.ASC), field);
+
+        return userRepository.searchByPrefix(prefixPattern(prefix), PageRequest.of(Math.max(page, 0), USERS_PAGE_SIZE, sort));
+    }
+
+    /**
+     * Keyset page of users ordered by username, starting after the given username.
+     */
+    public List<UserListItem> searchUsersAfter(String prefix, String afterUsername, int size) {
+
+        String after = afterUsername == null ? "" : afterUsername;
+        return userRepository.searchByPrefixAfter(prefixPattern(prefix), after, PageRequest.of(0, size));
+    }
+
+    private static String prefixPattern(String prefix) {
+
+        if (prefix == null || prefix.isBlank()) {
+            return "%";
+        }
+
+        return prefix.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
+    }
+
+    /**
+     * Cached, read-only view of the user for page rendering. Mutations below evict only their own entry.
+     */
+    @Cacheable(value = USER_VIEWS_CACHE, key = "#id")
+    public UserView getUserView(UUID id) {
 
-        return userRepository.findAll();
+        return DtoMapper.mapUserToUserView(getById(id));
     }
 
     public User getById(UUID id) {
@@ -105,7 +160,7 @@ public class UserService implements UserDetailsService {
         return user.get();
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = USER_VIEWS_CACHE, key = "#userId")
     public void switchStatus(UUID userId) {
 
         User user = getById(userId);
@@ -114,7 +169,7 @@ public class UserService implements UserDetailsService {
         userRepository.save(user);
     }
 
-    @CacheEvict(value = "users", allEntries = true)
+    @CacheEvict(value = USER_VIEWS_CACHE, key = "#userId")
     public void switchRole(UUID userId) {
 
         User user = getById(userId);
@@ -4,14 +4,11 @@ import app.exception.NotificationServiceFeignCallException;
 import app.exception.UsernameAlreadyExistException;
 import app.notification.client.dto.Notification;
 import app.notification.client.dto.NotificationPreference;
-import app.security.AuthenticationMetadata;
-import app.user.model.User;
-import app.user.service.UserService;
+import app.security.CurrentUser;
+import app.web.dto.UserView;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.MissingRequestValueException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,13 +23,6 @@ import java.util.List;
 @ControllerAdvice
 public class ExceptionAdvice {
 
-    private final UserService userService;
-
-    @Autowired
-    public ExceptionAdvice(UserService userService) {
-        this.userService = userService;
-    }
-
     @ExceptionHandler(UsernameAlreadyExistException.class)
     public String handleUsernameAlreadyExist(HttpServletRequest request, RedirectAttributes redirectAttributes, UsernameAlreadyExistException exception) {
         String message = exception.getMessage();
@@ -79,13 +69,11 @@ public class ExceptionAdvice {
     @ExceptionHandler(NotificationServiceFeignCallException.class)
     public ModelAndView handleNotificationFeignCallException(
             NotificationServiceFeignCallException exception,
-            @AuthenticationPrincipal AuthenticationMetadata auth
+            @CurrentUser UserView user
     ) {
         NotificationPreference emptyPreference = new NotificationPreference();
         List<Notification> emptyHistory = List.of();
 
-        User user = userService.getById(auth.getUserId());
-
         ModelAndView model = new ModelAndView("notifications");
         model.addObject("user", user);
         model.addObject("notificationPreference", emptyPreference);
@@ -1,21 +1,23 @@
 package app.web;
 
-import app.category.model.Category;
-import app.category.service.CategoryService;
-import app.exercise.model.Exercise;
-import app.progress.service.ProgressService;
-import app.user.model.User;
+import app.exercise.service.ExerciseImageResolver;
+import app.progress.service.HomeDashboardService;
 import app.user.service.UserService;
-import app.security.AuthenticationMetadata;
+import app.security.CurrentUser;
+import app.web.dto.ExerciseDTO;
+import app.web.dto.HomeDashboard;
 import app.web.dto.LoginRequest;
 import app.web.dto.RegisterRequest;
+import app.web.dto.UserView;
+import app.web.mapper.DtoMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 
@@ -26,16 +28,16 @@ import java.util.UUID;
 public class IndexController {
 
     private final UserService userService;
-    private final ProgressService progressService;
-    private final CategoryService categoryService;
+    private final HomeDashboardService homeDashboardService;
+    private final ExerciseImageResolver exerciseImageResolver;
 
     @Autowired
     public IndexController(UserService userService,
-                           ProgressService progressService,
-                           CategoryService categoryService) {
+                           HomeDashboardService homeDashboardService,
+                           ExerciseImageResolver exerciseImageResolver) {
         this.userService = userService;
-        this.progressService = progressService;
-        this.categoryService = categoryService;
+        this.homeDashboardService = homeDashboardService;
+        this.exerciseImageResolver = exerciseImageResolver;
     }
 
     @GetMapping("/")
@@ -81,38 +83,33 @@ public class IndexController {
     }
 
     @GetMapping("/home")
-    public ModelAndView getHomePage(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-
-        long streak = progressService.calculateWorkoutStreak(userId);
-        int totalWorkouts = progressService.getTotalWorkouts(userId);
-        String lastMuscleGroup = progressService.getLastWorkoutMuscleGroup(userId);
-        String lastWorkoutDate = progressService.getLastWorkoutDate(userId);
-        List<String> lastWorkoutExercises = progressService.getLastWorkoutExercises(userId);
-        int monthlyWorkouts = progressService.getMonthlyWorkoutCount(userId);
-        Category nextMuscleGroup = categoryService.getNextMuscleGroup(userId);
-        List<Exercise> suggestedExercises = nextMuscleGroup.getExercises().stream().limit(3).toList();
+    public ModelAndView getHomePage(@CurrentUser UserView user,
+                                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        UUID userId = user.getId();
+
+        HomeDashboard dashboard = homeDashboardService.getDashboard(userId);
+        List<ExerciseDTO> suggestedExercises = dashboard.getSuggestedExercises().stream()
+                .map(exercise -> DtoMapper.mapExerciseToExerciseDTO(exercise,
+                        exerciseImageResolver.resolve(exercise.getGifUrl(), accept),
+                        exerciseImageResolver.resolveThumbnail(exercise.getGifUrl())))
+                .toList();
 
         ModelAndView modelAndView = new ModelAndView("home");
         modelAndView.addObject("user", user);
-        modelAndView.addObject("streak", streak);
-        modelAndView.addObject("totalWorkouts", totalWorkouts);
-        modelAndView.addObject("lastMuscleGroup", lastMuscleGroup);
-        modelAndView.addObject("lastWorkoutDate", lastWorkoutDate);
-        modelAndView.addObject("lastWorkoutExercises", lastWorkoutExercises);
-        modelAndView.addObject("monthlyWorkouts", monthlyWorkouts);
-        modelAndView.addObject("nextMuscleGroup", nextMuscleGroup);
+        modelAndView.addObject("streak", dashboard.getStreak());
+        modelAndView.addObject("totalWorkouts", dashboard.getTotalWorkouts());
+        modelAndView.addObject("lastMuscleGroup", dashboard.getLastMuscleGroup());
+        modelAndView.addObject("lastWorkoutDate", dashboard.getLastWorkoutDate());
+        modelAndView.addObject("lastWorkoutExercises", dashboard.getLastWorkoutExercises());
+        modelAndView.addObject("monthlyWorkouts", dashboard.getMonthlyWorkouts());
+        modelAndView.addObject("nextMuscleGroup", dashboard.getNextMuscleGroup());
         modelAndView.addObject("suggestedExercises", suggestedExercises);
 
         return modelAndView;
     }
 
     @GetMapping("/privacy")
-    public ModelAndView getPrivacyPolicyPage(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-
+    public ModelAndView getPrivacyPolicyPage(@CurrentUser UserView user) {
         ModelAndView modelAndView = new ModelAndView("privacy");
         modelAndView.addObject("user", user);
 
@@ -120,10 +117,7 @@ public class IndexController {
     }
 
     @GetMapping("/about")
-    public ModelAndView getAboutPage(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-
+    public ModelAndView getAboutPage(@CurrentUser UserView user) {
         ModelAndView modelAndView = new ModelAndView("about");
         modelAndView.addObject("user", user);
 
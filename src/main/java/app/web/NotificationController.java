@@ -1,11 +1,11 @@
 package app.web;
 
-import app.user.model.User;
-import app.user.service.UserService;
 import app.notification.client.dto.Notification;
 import app.notification.client.dto.NotificationPreference;
 import app.notification.service.NotificationService;
 import app.security.AuthenticationMetadata;
+import app.security.CurrentUser;
+import app.web.dto.UserView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -20,26 +20,22 @@ import java.util.UUID;
 @RequestMapping("/notifications")
 public class NotificationController {
 
-    private final UserService userService;
     private final NotificationService notificationService;
 
     @Autowired
-    public NotificationController(UserService userService,
-                                  NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService) {
 
-        this.userService = userService;
         this.notificationService = notificationService;
     }
 
     @ModelAttribute("user")
-    public User addLoggedUserToModel(@AuthenticationPrincipal AuthenticationMetadata auth) {
-        return userService.getById(auth.getUserId());
+    public UserView addLoggedUserToModel(@CurrentUser UserView user) {
+        return user;
     }
 
     @GetMapping
-    public ModelAndView getNotificationPage(@AuthenticationPrincipal AuthenticationMetadata auth) {
-        UUID userId = auth.getUserId();
-        User user = userService.getById(userId);
+    public ModelAndView getNotificationPage(@CurrentUser UserView user) {
+        UUID userId = user.getId();
 
         NotificationPreference preference = notificationService.getNotificationPreference(userId);
         List<Notification> notificationHistory = notificationService.getNotificationHistory(userId);
@@ -2,26 +2,27 @@ package app.web;
 
 import app.exercise.model.Exercise;
 import app.exercise.service.ExerciseService;
-import app.progress.model.Progress;
 import app.progress.service.ProgressService;
-import app.user.model.User;
-import app.user.service.UserService;
 import app.workout.model.Workout;
 import app.workout.service.WorkoutService;
 import app.security.AuthenticationMetadata;
-import app.web.dto.WorkoutProgress;
+import app.security.CurrentUser;
+import app.web.dto.ProgressHistoryPage;
+import app.web.dto.UserView;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/progress")
@@ -30,35 +31,25 @@ public class ProgressController {
     private final ProgressService progressService;
     private final WorkoutService workoutService;
     private final ExerciseService exerciseService;
-    private final UserService userService;
 
     @Autowired
     public ProgressController(ProgressService progressService,
-                              WorkoutService workoutService, ExerciseService exerciseService, UserService userService) {
+                              WorkoutService workoutService, ExerciseService exerciseService) {
         this.progressService = progressService;
         this.workoutService = workoutService;
         this.exerciseService = exerciseService;
-        this.userService = userService;
     }
 
     @GetMapping
-    public ModelAndView viewProgress(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-        List<Progress> progressList = progressService.getUserProgressSummary(userId);
-
-        List<WorkoutProgress> workoutProgressList = progressList.stream()
-                .collect(Collectors.groupingBy(Progress::getWorkout))
-                .entrySet().stream()
-                .map(entry -> new WorkoutProgress(entry.getKey(), entry.getValue()))
-                .sorted((w1, w2) -> w2.getLatestTimestamp().compareTo(w1.getLatestTimestamp()))
-                .toList();
-
+    public ModelAndView viewProgress(@CurrentUser UserView user) {
+        UUID userId = user.getId();
+        ProgressHistoryPage history = progressService.getProgressHistory(userId, null);
         long streak = progressService.calculateWorkoutStreak(userId);
-        int totalWorkouts = workoutProgressList.size();
+        int totalWorkouts = progressService.getTotalWorkouts(userId);
 
         ModelAndView modelAndView = new ModelAndView("progress");
-        modelAndView.addObject("workoutProgressList", workoutProgressList);
+        modelAndView.addObject("workoutProgressList", history.getWorkouts());
+        modelAndView.addObject("nextCursor", history.getNextCursor());
         modelAndView.addObject("streak", streak);
         modelAndView.addObject("totalWorkouts", totalWorkouts);
         modelAndView.addObject("user", user);
@@ -66,6 +57,18 @@ public class ProgressController {
         return modelAndView;
     }
 
+    @GetMapping("/api")
+    @ResponseBody
+    public ResponseEntity<ProgressHistoryPage> getProgressHistory(@CurrentUser UserView user,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer size) {
+        ProgressHistoryPage history = size == null
+                ? progressService.getProgressHistory(user.getId(), cursor)
+                : progressService.getProgressHistory(user.getId(), cursor, Math.min(Math.max(size, 1), 100));
+
+        return ResponseEntity.ok(history);
+    }
+
     @PostMapping("/delete/{workoutId}")
     public String deleteWorkout(@PathVariable UUID workoutId) {
         workoutService.deleteWorkoutAndProgress(workoutId);
@@ -1,8 +1,11 @@
 package app.web;
 
-import app.progress.service.ProgressService;
+import app.exception.UserNotFoundException;
+import app.stats.model.UserStats;
+import app.stats.service.UserStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,23 +18,26 @@ import java.util.UUID;
 @RequestMapping("/api/stats")
 public class StatsRestController {
 
-    private final ProgressService progressService;
+    private final UserStatsService userStatsService;
 
     @Autowired
-    public StatsRestController(ProgressService progressService) {
-        this.progressService = progressService;
+    public StatsRestController(UserStatsService userStatsService) {
+        this.userStatsService = userStatsService;
     }
 
     @GetMapping("/{userId}")
     public ResponseEntity<Map<String, Integer>> getStats(@PathVariable UUID userId) {
-        int totalWorkouts = progressService.getTotalWorkouts(userId);
-        long longestStreak = progressService.calculateLongestStreak(userId);
-        int setsThisWeek = progressService.getSetsDoneThisWeek(userId);
+        UserStats stats = userStatsService.getStats(userId);
 
         return ResponseEntity.ok(Map.of(
-                "totalWorkouts", totalWorkouts,
-                "longestStreak", (int) longestStreak,
-                "setsThisWeek", setsThisWeek
+                "totalWorkouts", stats.getTotalWorkouts(),
+                "longestStreak", stats.getLongestStreak(),
+                "setsThisWeek", stats.getWeeklySets()
         ));
     }
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<Void> handleUnknownUser() {
+        return ResponseEntity.notFound().build();
+    }
 }
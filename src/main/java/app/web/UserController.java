@@ -1,12 +1,17 @@
 package app.web;
 
 import app.user.model.User;
+import app.user.model.UserListItem;
 import app.user.service.UserService;
 import app.security.AuthenticationMetadata;
+import app.security.CurrentUser;
+import app.web.dto.UserCursorPage;
 import app.web.dto.UserEditRequest;
+import app.web.dto.UserView;
 import app.web.mapper.DtoMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -46,19 +51,39 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ModelAndView getAllUsers(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-
-        List<User> users = userService.getAllUsers();
+    public ModelAndView getAllUsers(@CurrentUser UserView user,
+                                    @RequestParam(defaultValue = "") String search,
+                                    @RequestParam(defaultValue = "0") int page,
+                                    @RequestParam(defaultValue = "username") String sort,
+                                    @RequestParam(defaultValue = "asc") String direction) {
+        Page<UserListItem> users = userService.searchUsers(search, page, sort, direction);
 
         ModelAndView modelAndView = new ModelAndView();
         modelAndView.setViewName("users");
         modelAndView.addObject("users", users);
+        modelAndView.addObject("search", search);
+        modelAndView.addObject("sort", sort);
+        modelAndView.addObject("direction", direction);
         modelAndView.addObject("user", user);
         return modelAndView;
     }
 
+    @GetMapping("/api")
+    @ResponseBody
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserCursorPage> getUsersPage(@RequestParam(required = false) String after,
+                                                       @RequestParam(defaultValue = "") String search,
+                                                       @RequestParam(defaultValue = "25") int size) {
+        int limit = Math.min(Math.max(size, 1), 100);
+        List<UserListItem> users = userService.searchUsersAfter(search, after, limit);
+        String nextCursor = users.size() == limit ? users.get(users.size() - 1).getUsername() : null;
+
+        return ResponseEntity.ok(UserCursorPage.builder()
+                .users(users)
+                .nextCursor(nextCursor)
+                .build());
+    }
+
     @GetMapping("/{id}/profile")
     public ModelAndView getProfileMenu(@PathVariable UUID id) {
 
@@ -1,21 +1,27 @@
 package app.web;
 
 import app.category.model.Category;
-import app.category.repository.CategoryRepository;
-import app.exercise.model.Exercise;
+import app.exercise.model.ExercisePayload;
+import app.exercise.service.ExerciseCatalog;
+import app.exercise.service.ExerciseImageResolver;
+import app.exercise.service.ExercisePayloadCache;
 import app.exercise.service.ExerciseService;
-import app.progress.service.ProgressService;
-import app.user.model.User;
-import app.user.service.UserService;
 import app.workout.model.Workout;
 import app.workout.service.WorkoutService;
 import app.security.AuthenticationMetadata;
+import app.security.CurrentUser;
 import app.web.dto.CategoryDTO;
 import app.web.dto.ExerciseDTO;
 import app.web.dto.SelectedExercisesRequest;
+import app.web.dto.UserView;
 import app.web.dto.WorkoutRequest;
+import app.web.mapper.DtoMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -24,6 +30,7 @@ import org.springframework.web.servlet.ModelAndView;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Controller
@@ -31,30 +38,32 @@ import java.util.stream.Collectors;
 @Slf4j
 public class WorkoutController {
 
-    private final UserService userService;
     private final WorkoutService workoutService;
     private final ExerciseService exerciseService;
-    private final CategoryRepository categoryRepository;
-    private final ProgressService progressService;
+    private final ExerciseCatalog exerciseCatalog;
+    private final ExercisePayloadCache exercisePayloadCache;
+    private final ExerciseImageResolver exerciseImageResolver;
+    private final long exerciseCacheMaxAgeSeconds;
 
     @Autowired
-    public WorkoutController(UserService userService,
-                             WorkoutService workoutService,
+    public WorkoutController(WorkoutService workoutService,
                              ExerciseService exerciseService,
-                             CategoryRepository categoryRepository, ProgressService progressService) {
-        this.userService = userService;
+                             ExerciseCatalog exerciseCatalog,
+                             ExercisePayloadCache exercisePayloadCache,
+                             ExerciseImageResolver exerciseImageResolver,
+                             @Value("${workout.exercise.cache-max-age-seconds:300}") long exerciseCacheMaxAgeSeconds) {
         this.workoutService = workoutService;
         this.exerciseService = exerciseService;
-        this.categoryRepository = categoryRepository;
-        this.progressService = progressService;
+        this.exerciseCatalog = exerciseCatalog;
+        this.exercisePayloadCache = exercisePayloadCache;
+        this.exerciseImageResolver = exerciseImageResolver;
+        this.exerciseCacheMaxAgeSeconds = exerciseCacheMaxAgeSeconds;
     }
 
     @GetMapping
-    public ModelAndView selectCategories(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
+    public ModelAndView selectCategories(@CurrentUser UserView user) {
 
-        List<Category> categories = categoryRepository.findAll();
+        List<Category> categories = exerciseCatalog.getCategories();
         List<CategoryDTO> categoryDTOs = categories.stream()
                 .map(category -> new CategoryDTO(category.getName(), category.getImageUrl()))
                 .collect(Collectors.toList());
@@ -66,19 +75,18 @@ public class WorkoutController {
         return modelAndView;
     }
 
+    /**
+     * Answers with the category's pre-serialized JSON. Spring replies 304 without a body when
+     * the client's If-None-Match matches the ETag.
+     */
     @GetMapping("/exercise")
-    @ResponseBody
-    public List<ExerciseDTO> getExercisesByCategory(@RequestParam String categoryName) {
-        List<Exercise> exercises = exerciseService.getExercisesByCategory(categoryName);
-        return exercises.stream()
-                .map(exercise -> new ExerciseDTO(
-                        exercise.getId(),
-                        exercise.getName(),
-                        exercise.getDescription(),
-                        exercise.getGifUrl(),
-                        exercise.getSets(),
-                        exercise.getReps()))
-                .collect(Collectors.toList());
+    public ResponseEntity<byte[]> getExercisesByCategory(@RequestParam String categoryName) {
+        ExercisePayload payload = exercisePayloadCache.getByCategory(categoryName);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(exerciseCacheMaxAgeSeconds, TimeUnit.SECONDS).cachePrivate())
+                .eTag(payload.getEtag())
+                .body(payload.getBody());
     }
 
     @PostMapping("/selectExercises")
@@ -95,9 +103,9 @@ public class WorkoutController {
     }
 
     @GetMapping("/startWorkout")
-    public ModelAndView startWorkout(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
+    public ModelAndView startWorkout(@CurrentUser UserView user,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        UUID userId = user.getId();
 
         List<UUID> selectedExerciseIds = exerciseService.getUserSelectedExercises(userId);
         if (selectedExerciseIds.isEmpty()) {
@@ -105,7 +113,11 @@ public class WorkoutController {
             return new ModelAndView("redirect:/workout");
         }
 
-        List<Exercise> exercises = exerciseService.getExercisesByIds(selectedExerciseIds);
+        List<ExerciseDTO> exercises = exerciseService.getExercisesByIds(selectedExerciseIds).stream()
+                .map(exercise -> DtoMapper.mapExerciseToExerciseDTO(exercise,
+                        exerciseImageResolver.resolve(exercise.getGifUrl(), accept),
+                        exerciseImageResolver.resolveThumbnail(exercise.getGifUrl())))
+                .toList();
         UUID sessionId = UUID.randomUUID();
         exerciseService.storeWorkoutSessionId(userId, sessionId);
 
@@ -120,32 +132,19 @@ public class WorkoutController {
     @PostMapping("/saveWorkout")
     public ResponseEntity<String> saveWorkout(@RequestBody WorkoutRequest workoutRequest,
                                               @AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-
-        List<Exercise> exercises = exerciseService.getExercisesByIds(workoutRequest.getExerciseIds());
-        Workout savedWorkout = workoutService.createWorkout(
+        Workout savedWorkout = workoutService.completeWorkout(
+                authenticationMetadata.getUserId(),
                 workoutRequest.getWorkoutName(),
-                authenticationMetadata,
-                exercises,
+                workoutRequest.getExerciseIds(),
                 workoutRequest.isCompleted()
         );
-        workoutService.markWorkoutAsCompleted(savedWorkout.getId());
-
-        if (workoutRequest.isCompleted()) {
-            for (UUID exerciseId : workoutRequest.getExerciseIds()) {
-                progressService.saveWorkoutCompletion(user.getId(), savedWorkout.getId(), exerciseId);
-            }
-        }
+        exerciseService.clearUserSelectedExercises(authenticationMetadata.getUserId());
 
         return ResponseEntity.ok("Workout saved successfully with ID: " + savedWorkout.getId());
     }
 
     @GetMapping("/complete")
-    public ModelAndView completeWorkout(@AuthenticationPrincipal AuthenticationMetadata authenticationMetadata) {
-        UUID userId = authenticationMetadata.getUserId();
-        User user = userService.getById(userId);
-
+    public ModelAndView completeWorkout(@CurrentUser UserView user) {
         ModelAndView modelAndView = new ModelAndView("completed");
         modelAndView.addObject("user", user);
         return modelAndView;
@@ -154,6 +153,7 @@ public class WorkoutController {
     @PostMapping("/updateWorkout")
     public String updateWorkout(@ModelAttribute("exercises") List<ExerciseDTO> exercises) {
         workoutService.updateWorkoutExercises(exercises);
+        exerciseCatalog.refresh();
         return "redirect:/workout";
     }
 }
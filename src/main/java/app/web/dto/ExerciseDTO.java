@@ -16,4 +16,6 @@ public class ExerciseDTO {
     private String gifUrl;
     private int sets;
     private int reps;
+    private String thumbnailUrl;
+    private String webpUrl;
 }
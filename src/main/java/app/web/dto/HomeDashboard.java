@@ -0,0 +1,22 @@
+package app.web.dto;
+
+import app.category.model.Category;
+import app.exercise.model.Exercise;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class HomeDashboard {
+
+    long streak;
+    int totalWorkouts;
+    String lastMuscleGroup;
+    String lastWorkoutDate;
+    List<String> lastWorkoutExercises;
+    int monthlyWorkouts;
+    Category nextMuscleGroup;
+    List<Exercise> suggestedExercises;
+}
@@ -0,0 +1,10 @@
+package app.web.dto;
+
+import lombok.Value;
+
+@Value
+public class ProgressExercise {
+
+    String name;
+    String categoryName;
+}
@@ -0,0 +1,17 @@
+package app.web.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ProgressHistoryPage {
+
+    // Whole workouts only: a page always ends on a workout boundary.
+    List<WorkoutProgress> workouts;
+
+    // Position of the last row; pass it back as "cursor" for the next page. Null on the last page.
+    String nextCursor;
+}
@@ -0,0 +1,17 @@
+package app.web.dto;
+
+import app.user.model.UserListItem;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class UserCursorPage {
+
+    List<UserListItem> users;
+
+    // Username of the last row; pass it back as "after" for the next page. Null on the last page.
+    String nextCursor;
+}
@@ -0,0 +1,26 @@
+package app.web.dto;
+
+import app.user.model.UserRole;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only snapshot of a user for rendering pages; cached per user id.
+ */
+@Value
+@Builder
+public class UserView {
+
+    UUID id;
+    String username;
+    String firstName;
+    String lastName;
+    String email;
+    String profilePicture;
+    UserRole role;
+    boolean active;
+    LocalDateTime updatedOn;
+}
@@ -1,26 +1,18 @@
 package app.web.dto;
 
-import app.progress.model.Progress;
-import app.workout.model.Workout;
-import lombok.*;
+import lombok.Builder;
+import lombok.Value;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-@Getter
-@Setter
+@Value
+@Builder
 public class WorkoutProgress {
 
-    private Workout workout;
-    private List<Progress> progressList;
-
-    public LocalDateTime getLatestTimestamp() {
-        return progressList.stream()
-                .map(Progress::getTimestamp)
-                .max(LocalDateTime::compareTo)
-                .orElse(LocalDateTime.MIN);
-    }
+    UUID workoutId;
+    String workoutName;
+    LocalDateTime latestTimestamp;
+    List<ProgressExercise> exercises;
 }
@@ -1,7 +1,10 @@
 package app.web.mapper;
 
+import app.exercise.model.Exercise;
 import app.user.model.User;
+import app.web.dto.ExerciseDTO;
 import app.web.dto.UserEditRequest;
+import app.web.dto.UserView;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -16,4 +19,32 @@ public class DtoMapper {
                 .profilePicture(user.getProfilePicture())
                 .build();
     }
+
+    public static UserView mapUserToUserView(User user) {
+
+        return UserView.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .profilePicture(user.getProfilePicture())
+                .role(user.getRole())
+                .active(user.isActive())
+                .updatedOn(user.getUpdatedOn())
+                .build();
+    }
+
+    public static ExerciseDTO mapExerciseToExerciseDTO(Exercise exercise, String gifUrl, String thumbnailUrl) {
+
+        return ExerciseDTO.builder()
+                .id(exercise.getId())
+                .name(exercise.getName())
+                .description(exercise.getDescription())
+                .gifUrl(gifUrl)
+                .sets(exercise.getSets())
+                .reps(exercise.getReps())
+                .thumbnailUrl(thumbnailUrl)
+                .build();
+    }
 }
@@ -0,0 +1,48 @@
+package app.workout.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact, append-only record of a workout moved out of the hot tables: one row replaces
+ * the workout, its exercise links and its progress rows.
+ */
+@Entity
+@Table(name = "archived_workouts")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedWorkout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID workoutId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String name;
+
+    private boolean completed;
+
+    @Column(nullable = false)
+    private LocalDateTime createdOn;
+
+    private LocalDateTime completedOn;
+
+    private int exerciseCount;
+
+    private int completions;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedOn;
+}
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_workout_created_on", columnList = "created_on"))
 @Builder
 @Getter
 @Setter
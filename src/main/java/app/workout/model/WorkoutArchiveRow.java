@@ -0,0 +1,22 @@
+package app.workout.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flat view of a workout about to be archived, loaded without its user or exercises.
+ */
+public interface WorkoutArchiveRow {
+
+    UUID getId();
+
+    UUID getUserId();
+
+    String getName();
+
+    boolean isCompleted();
+
+    LocalDateTime getCreatedOn();
+
+    int getExerciseCount();
+}
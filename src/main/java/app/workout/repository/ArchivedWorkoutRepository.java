@@ -0,0 +1,11 @@
+package app.workout.repository;
+
+import app.workout.model.ArchivedWorkout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ArchivedWorkoutRepository extends JpaRepository<ArchivedWorkout, UUID> {
+}
@@ -1,15 +1,36 @@
 package app.workout.repository;
 
 import app.workout.model.Workout;
+import app.workout.model.WorkoutArchiveRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, UUID> {
 
     List<Workout> findByCreatedOnBefore(LocalDateTime localDateTime);
+
+    @Query("SELECT w.user.id FROM Workout w WHERE w.id = :workoutId")
+    Optional<UUID> findUserIdById(@Param("workoutId") UUID workoutId);
+
+    @Query("SELECT w.id FROM Workout w WHERE w.createdOn < :cutoff")
+    List<UUID> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT w.id AS id, w.user.id AS userId, w.name AS name, w.completed AS completed, " +
+            "w.createdOn AS createdOn, SIZE(w.exercises) AS exerciseCount FROM Workout w WHERE w.id IN :ids")
+    List<WorkoutArchiveRow> findArchiveRowsByIdIn(@Param("ids") List<UUID> ids);
+
+    // Hibernate also clears the workout_exercises rows of the deleted workouts.
+    @Modifying
+    @Query("DELETE FROM Workout w WHERE w.id IN :ids")
+    void deleteByIdIn(@Param("ids") List<UUID> ids);
 }
@@ -0,0 +1,90 @@
+package app.workout.service;
+
+import app.progress.model.ProgressEntry;
+import app.progress.repository.ProgressRepository;
+import app.stats.model.UserHistoryRollup;
+import app.stats.repository.UserHistoryRollupRepository;
+import app.workout.model.ArchivedWorkout;
+import app.workout.model.WorkoutArchiveRow;
+import app.workout.repository.ArchivedWorkoutRepository;
+import app.workout.repository.WorkoutRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class WorkoutArchiveService {
+
+    private final WorkoutRepository workoutRepository;
+    private final ProgressRepository progressRepository;
+    private final ArchivedWorkoutRepository archivedWorkoutRepository;
+    private final UserHistoryRollupRepository rollupRepository;
+
+    @Autowired
+    public WorkoutArchiveService(WorkoutRepository workoutRepository,
+                                 ProgressRepository progressRepository,
+                                 ArchivedWorkoutRepository archivedWorkoutRepository,
+                                 UserHistoryRollupRepository rollupRepository) {
+        this.workoutRepository = workoutRepository;
+        this.progressRepository = progressRepository;
+        this.archivedWorkoutRepository = archivedWorkoutRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * Rolls the given workouts into their owners' history totals and writes one archive row per
+     * workout. The caller deletes the hot rows afterwards in the same transaction.
+     */
+    @Transactional
+    public void archive(List<UUID> workoutIds) {
+        List<WorkoutArchiveRow> workouts = workoutRepository.findArchiveRowsByIdIn(workoutIds);
+        Map<UUID, List<ProgressEntry>> progressByWorkout = progressRepository.findEntriesByWorkoutIdIn(workoutIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProgressEntry::getWorkoutId));
+
+        Set<UUID> userIds = workouts.stream().map(WorkoutArchiveRow::getUserId).collect(Collectors.toSet());
+        Map<UUID, UserHistoryRollup> rollups = rollupRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserHistoryRollup::getUserId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedWorkout> archived = new ArrayList<>(workouts.size());
+
+        for (WorkoutArchiveRow workout : workouts) {
+            // Entries come newest first.
+            List<ProgressEntry> entries = progressByWorkout.getOrDefault(workout.getId(), List.of());
+            ProgressEntry latest = entries.isEmpty() ? null : entries.get(0);
+
+            archived.add(ArchivedWorkout.builder()
+                    .workoutId(workout.getId())
+                    .userId(workout.getUserId())
+                    .name(workout.getName())
+                    .completed(workout.isCompleted())
+                    .createdOn(workout.getCreatedOn())
+                    .completedOn(latest != null ? latest.getTimestamp() : null)
+                    .exerciseCount(workout.getExerciseCount())
+                    .completions(entries.size())
+                    .archivedOn(now)
+                    .build());
+
+            if (latest != null) {
+                Set<LocalDate> days = entries.stream()
+                        .map(entry -> entry.getTimestamp().toLocalDate())
+                        .collect(Collectors.toSet());
+                rollups.computeIfAbsent(workout.getUserId(), UserHistoryRollup::empty)
+                        .add(latest.getTimestamp(), latest.getCategoryName(), days);
+            }
+        }
+
+        rollupRepository.saveAll(rollups.values());
+        archivedWorkoutRepository.saveAll(archived);
+        log.debug("Archived {} workouts of {} users", archived.size(), userIds.size());
+    }
+}
@@ -2,7 +2,10 @@ package app.workout.service;
 
 import app.exercise.model.Exercise;
 import app.exercise.repository.ExerciseRepository;
+import app.progress.model.Progress;
 import app.progress.repository.ProgressRepository;
+import app.progress.service.StreakService;
+import app.stats.service.UserStatsService;
 import app.user.model.User;
 import app.user.repository.UserRepository;
 import app.workout.model.Workout;
@@ -14,11 +17,20 @@ import jakarta.transaction.Transactional;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -29,16 +41,31 @@ public class WorkoutService {
     private final ExerciseRepository exerciseRepository;
     private final UserRepository userRepository;
     private final ProgressRepository progressRepository;
+    private final UserStatsService userStatsService;
+    private final StreakService streakService;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkoutArchiveService workoutArchiveService;
+
+    @Value("${workouts.cleanup.chunk-size:1000}")
+    private int cleanupChunkSize;
 
     @Autowired
     public WorkoutService(WorkoutRepository workoutRepository,
                           ExerciseRepository exerciseRepository,
                           UserRepository userRepository,
-                          ProgressRepository progressRepository) {
+                          ProgressRepository progressRepository,
+                          UserStatsService userStatsService,
+                          StreakService streakService,
+                          TransactionTemplate transactionTemplate,
+                          WorkoutArchiveService workoutArchiveService) {
         this.workoutRepository = workoutRepository;
         this.exerciseRepository = exerciseRepository;
         this.userRepository = userRepository;
         this.progressRepository = progressRepository;
+        this.userStatsService = userStatsService;
+        this.streakService = streakService;
+        this.transactionTemplate = transactionTemplate;
+        this.workoutArchiveService = workoutArchiveService;
     }
 
     public Workout createWorkout(String workoutName, AuthenticationMetadata authenticationMetadata,
@@ -63,6 +90,66 @@ public class WorkoutService {
         return workout;
     }
 
+    /**
+     * Stores a finished workout in one transaction: the workout, its exercise links and, when
+     * {@code logProgress} is set, one progress row per requested exercise id. The user is only
+     * referenced by id and the exercises are read with a single query, so all inserts can go out
+     * as JDBC batches. A repeated id adds another progress row but only one exercise link, and an
+     * unknown id rejects the whole request. The last muscle group in the stats is the category of
+     * the last exercise in {@code exerciseIds}.
+     */
+    @Transactional
+    public Workout completeWorkout(UUID userId, String workoutName, List<UUID> exerciseIds, boolean logProgress) {
+        Map<UUID, Exercise> exercisesById = new HashMap<>();
+        if (!exerciseIds.isEmpty()) {
+            exerciseRepository.findAllWithCategoryByIdIn(exerciseIds)
+                    .forEach(exercise -> exercisesById.put(exercise.getId(), exercise));
+        }
+        Set<UUID> distinctIds = new LinkedHashSet<>(exerciseIds);
+        if (exercisesById.size() != distinctIds.size()) {
+            Set<UUID> unknownIds = new LinkedHashSet<>(distinctIds);
+            unknownIds.removeAll(exercisesById.keySet());
+            throw new IllegalArgumentException("Exercises not found for IDs: " + unknownIds);
+        }
+
+        // IN (...) returns rows in no particular order, so follow the requested ids, not the rows.
+        List<Exercise> exercises = new ArrayList<>(distinctIds.size());
+        distinctIds.forEach(exerciseId -> exercises.add(exercisesById.get(exerciseId)));
+        User user = userRepository.getReferenceById(userId);
+        LocalDateTime now = LocalDateTime.now();
+
+        Workout workout = Workout.builder()
+                .user(user)
+                .name(workoutName)
+                .completed(true)
+                .createdOn(now)
+                .exercises(exercises)
+                .build();
+        workout = workoutRepository.save(workout);
+
+        if (!logProgress || exerciseIds.isEmpty()) {
+            return workout;
+        }
+
+        List<Progress> progress = new ArrayList<>(exerciseIds.size());
+        for (UUID exerciseId : exerciseIds) {
+            progress.add(Progress.builder()
+                    .user(user)
+                    .workout(workout)
+                    .exercise(exercisesById.get(exerciseId))
+                    .timestamp(now)
+                    .build());
+        }
+        progressRepository.saveAll(progress);
+
+        String lastMuscleGroup = exercisesById.get(exerciseIds.get(exerciseIds.size() - 1)).getCategory().getName();
+        userStatsService.recordCompletions(userId, exerciseIds.size(), exercises.size(),
+                lastMuscleGroup, now, true);
+        streakService.recordWorkoutDay(userId, now.toLocalDate());
+
+        return workout;
+    }
+
     public Workout getWorkoutById(UUID id) {
         return workoutRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found"));
@@ -93,8 +180,16 @@ public class WorkoutService {
 
     @Transactional
     public void deleteWorkoutAndProgress(UUID workoutId) {
+        Optional<UUID> userId = workoutRepository.findUserIdById(workoutId);
+
         progressRepository.deleteByWorkoutId(workoutId);
         workoutRepository.deleteById(workoutId);
+
+        // Streaks can't be decremented in place, so the owner's stats are recomputed.
+        userId.ifPresent(id -> {
+            userStatsService.rebuild(id);
+            streakService.rebuild(id);
+        });
     }
 
     @Transactional
@@ -116,16 +211,34 @@ public class WorkoutService {
         }
     }
 
-    @Transactional
-    public int deleteWorkoutsBefore(LocalDate oneMonthAgo) {
-        List<Workout> oldWorkouts = workoutRepository.findByCreatedOnBefore(oneMonthAgo.atStartOfDay());
+    /**
+     * Moves workouts created before the given day out of the hot tables, one transaction per chunk
+     * of {@code workouts.cleanup.chunk-size} workouts. Each chunk is first rolled up into the
+     * owners' history totals and copied to the archive table, so long-term stats survive, and is
+     * then removed with set-based deletes. Nothing is loaded into the persistence context besides
+     * the ids of the current chunk.
+     */
+    public int archiveWorkoutsBefore(LocalDate oneMonthAgo) {
+        LocalDateTime cutoff = oneMonthAgo.atStartOfDay();
+        int archived = 0;
+        int chunk;
+        do {
+            Integer chunkArchived = transactionTemplate.execute(status -> archiveWorkoutChunk(cutoff));
+            chunk = chunkArchived != null ? chunkArchived : 0;
+            archived += chunk;
+        } while (chunk == cleanupChunkSize);
+        return archived;
+    }
 
-        for (Workout workout : oldWorkouts) {
-            progressRepository.deleteByWorkoutId(workout.getId());
-            workout.getExercises().forEach(exercise -> exercise.setWorkout(null));
+    private int archiveWorkoutChunk(LocalDateTime cutoff) {
+        List<UUID> workoutIds = workoutRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, cleanupChunkSize));
+        if (workoutIds.isEmpty()) {
+            return 0;
         }
 
-        workoutRepository.deleteAll(oldWorkouts);
-        return oldWorkouts.size();
+        workoutArchiveService.archive(workoutIds);
+        progressRepository.deleteByWorkoutIdIn(workoutIds);
+        workoutRepository.deleteByIdIn(workoutIds);
+        return workoutIds.size();
     }
 }
@@ -0,0 +1,68 @@
+-- Schema as previously created by hibernate.ddl-auto=update. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+create table `user` (
+    `id` binary(16) not null,
+    `created_on` datetime(6) not null,
+    `email` varchar(255),
+    `first_name` varchar(255),
+    `is_active` bit not null,
+    `last_name` varchar(255),
+    `password` varchar(255) not null,
+    `profile_picture` varchar(255),
+    `role` enum ('ADMIN','USER'),
+    `updated_on` datetime(6) not null,
+    `username` varchar(255) not null,
+    primary key (`id`),
+    constraint `UKh74ord48otcajdi21yrl7k4d1` unique (`username`),
+    constraint `UKoshmjvr6wht0bg9oivn75aajr` unique (`email`)
+) engine=InnoDB;
+
+create table `category` (
+    `id` binary(16) not null,
+    `image_url` varchar(255),
+    `name` varchar(255) not null,
+    primary key (`id`),
+    constraint `UK2ommh8135mg0e6x4o0cnf4c65` unique (`name`)
+) engine=InnoDB;
+
+create table `exercise` (
+    `id` binary(16) not null,
+    `description` varchar(1000) not null,
+    `gif_url` varchar(255),
+    `name` varchar(255) not null,
+    `reps` integer,
+    `sets` integer,
+    `category_id` binary(16) not null,
+    primary key (`id`),
+    constraint `FKfhxa1ati6okpqnlxrfmmfdtwb` foreign key (`category_id`) references `category` (`id`)
+) engine=InnoDB;
+
+create table `workout` (
+    `id` binary(16) not null,
+    `completed` bit not null,
+    `created_on` datetime(6) not null,
+    `name` varchar(255) not null,
+    `user_id` binary(16) not null,
+    primary key (`id`),
+    constraint `FK97muxurigpkoj0w20mdbd9fdi` foreign key (`user_id`) references `user` (`id`)
+) engine=InnoDB;
+
+create table `workout_exercises` (
+    `workout_id` binary(16) not null,
+    `exercise_id` binary(16) not null,
+    constraint `FK91sfvwm3siwfo8y8kthd1d5b0` foreign key (`workout_id`) references `workout` (`id`),
+    constraint `FKqknwc7653w9l01yxldiu67vjt` foreign key (`exercise_id`) references `exercise` (`id`)
+) engine=InnoDB;
+
+create table `progress` (
+    `id` binary(16) not null,
+    `timestamp` datetime(6) not null,
+    `exercise_id` binary(16),
+    `user_id` binary(16) not null,
+    `workout_id` binary(16) not null,
+    primary key (`id`),
+    constraint `FK1qw98fapngwrt399hqdwiysmt` foreign key (`user_id`) references `user` (`id`),
+    constraint `FKdpyikytkig5yl4od1qgtysnlh` foreign key (`workout_id`) references `workout` (`id`),
+    constraint `FKls86vor35bb14qlh2p0chp2sk` foreign key (`exercise_id`) references `exercise` (`id`)
+) engine=InnoDB;
@@ -0,0 +1,47 @@
+-- Tables behind the precomputed stats, the per-user day bitmaps and the workout archive.
+
+create table `user_activity` (
+    `user_id` binary(16) not null,
+    `days` blob not null,
+    `first_day` integer not null,
+    primary key (`user_id`)
+) engine=InnoDB;
+
+create table `user_stats` (
+    `user_id` binary(16) not null,
+    `current_streak` integer not null,
+    `last_muscle_group` varchar(255),
+    `last_workout_date` date,
+    `longest_streak` integer not null,
+    `month_start` date,
+    `monthly_workouts` integer not null,
+    `total_workouts` integer not null,
+    `version` bigint,
+    `week_start` date,
+    `weekly_sets` integer not null,
+    primary key (`user_id`)
+) engine=InnoDB;
+
+create table `user_history_rollup` (
+    `user_id` binary(16) not null,
+    `archived_workouts` integer not null,
+    `days` blob not null,
+    `first_day` integer not null,
+    `last_muscle_group` varchar(255),
+    `last_workout_on` datetime(6),
+    primary key (`user_id`)
+) engine=InnoDB;
+
+create table `archived_workouts` (
+    `id` binary(16) not null,
+    `archived_on` datetime(6) not null,
+    `completed` bit not null,
+    `completed_on` datetime(6),
+    `completions` integer not null,
+    `created_on` datetime(6) not null,
+    `exercise_count` integer not null,
+    `name` varchar(255) not null,
+    `user_id` binary(16) not null,
+    `workout_id` binary(16) not null,
+    primary key (`id`)
+) engine=InnoDB;
@@ -0,0 +1,8 @@
+-- Recent progress, monthly/weekly counts and streak days filter on user and time.
+create index `idx_progress_user_timestamp` on `progress` (`user_id`, `timestamp`);
+
+-- Per-workout progress lookups and deletes.
+create index `idx_progress_workout` on `progress` (`workout_id`);
+
+-- Old-workout cleanup and archiving.
+create index `idx_workout_created_on` on `workout` (`created_on`);
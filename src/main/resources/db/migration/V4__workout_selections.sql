@@ -0,0 +1,10 @@
+-- Shared store for exercise selections and workout sessions (workout.selection.store=shared).
+create table `workout_selections` (
+    `user_id` binary(16) not null,
+    `exercise_ids` varchar(4000),
+    `expires_on` datetime(6) not null,
+    `session_id` binary(16),
+    primary key (`user_id`)
+) engine=InnoDB;
+
+create index `idx_workout_selections_expires_on` on `workout_selections` (`expires_on`);
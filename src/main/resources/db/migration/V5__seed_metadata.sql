@@ -0,0 +1,7 @@
+-- Applied version of each seed data set, checked on startup instead of counting the seeded tables.
+create table `seed_metadata` (
+    `name` varchar(64) not null,
+    `applied_on` datetime(6) not null,
+    `version` integer not null,
+    primary key (`name`)
+) engine=InnoDB;
@@ -0,0 +1,14 @@
+document.addEventListener('DOMContentLoaded', () => {
+    // Cards start with a still poster; the animated GIF is only fetched once the user shows interest.
+    document.querySelectorAll('img[data-animated-src]').forEach(image => {
+        const play = () => {
+            if (image.dataset.animatedSrc) {
+                image.src = image.dataset.animatedSrc;
+                delete image.dataset.animatedSrc;
+            }
+        };
+        image.addEventListener('mouseenter', play, {once: true});
+        image.addEventListener('click', play, {once: true});
+        image.addEventListener('touchstart', play, {once: true, passive: true});
+    });
+});
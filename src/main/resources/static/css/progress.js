@@ -0,0 +1,66 @@
+document.addEventListener('DOMContentLoaded', () => {
+    const sentinel = document.getElementById('progressSentinel');
+    const tableBody = document.querySelector('.progress-table tbody');
+    const rowTemplate = document.getElementById('workoutRowTemplate');
+    if (!sentinel || !tableBody || !rowTemplate) {
+        return;
+    }
+
+    const csrfToken = document.querySelector('meta[name="_csrf"]')?.content || "";
+    let nextCursor = sentinel.dataset.nextCursor;
+    let loading = false;
+
+    const observer = new IntersectionObserver(entries => {
+        if (entries.some(entry => entry.isIntersecting)) {
+            loadMore();
+        }
+    }, {rootMargin: '200px'});
+    observer.observe(sentinel);
+
+    function loadMore() {
+        if (loading || !nextCursor) {
+            return;
+        }
+        loading = true;
+
+        fetch(`/progress/api?cursor=${encodeURIComponent(nextCursor)}`, {credentials: "include"})
+            .then(response => {
+                if (!response.ok) throw new Error("Failed to load progress.");
+                return response.json();
+            })
+            .then(page => {
+                page.workouts.forEach(appendWorkout);
+                nextCursor = page.nextCursor;
+                if (!nextCursor) {
+                    observer.disconnect();
+                    sentinel.remove();
+                }
+            })
+            .catch(() => observer.disconnect())
+            .finally(() => {
+                loading = false;
+            });
+    }
+
+    function appendWorkout(workout) {
+        const row = rowTemplate.content.firstElementChild.cloneNode(true);
+        row.dataset.workoutId = workout.workoutId;
+        row.querySelector('.workout-name').textContent = workout.workoutName;
+        row.querySelector('.workout-date').textContent = workout.latestTimestamp.substring(0, 10);
+        row.querySelector('.repeat-form').action = `/progress/repeat/${workout.workoutId}`;
+        row.querySelector('.delete-form').action = `/progress/delete/${workout.workoutId}`;
+        row.querySelectorAll('input[name="_csrf"]').forEach(input => input.value = csrfToken);
+        appendExercises(row, workout.exercises);
+        tableBody.appendChild(row);
+    }
+
+    function appendExercises(row, exercises) {
+        const container = row.querySelector('.exercise-container');
+        exercises.forEach(exercise => {
+            const badge = document.createElement('span');
+            badge.className = 'exercise-badge ' + (exercise.categoryName ? exercise.categoryName.toLowerCase() : '');
+            badge.textContent = exercise.name;
+            container.appendChild(badge);
+        });
+    }
+});
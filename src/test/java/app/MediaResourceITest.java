@@ -0,0 +1,97 @@
+package app;
+
+import app.exercise.service.ExerciseImageResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class MediaResourceITest {
+
+    private static final Path MEDIA_DIRECTORY = createMediaDirectory();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExerciseImageResolver exerciseImageResolver;
+
+    @DynamicPropertySource
+    static void mediaProperties(DynamicPropertyRegistry registry) {
+        registry.add("media.exercise-images.location", () -> MEDIA_DIRECTORY.toUri().toString());
+    }
+
+    @Test
+    void image_shouldBeReadFromMediaDirectoryFirst() throws Exception {
+        String url = exerciseImageResolver.resolve("/images/exercises/Burpee.gif", null);
+
+        assertTrue(url.matches("/images/exercises/Burpee-[0-9a-f]{32}\\.gif"), url);
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(content().string("GIF89a-burpee-frames"));
+    }
+
+    @Test
+    void plainUrl_shouldBeRevalidatedInsteadOfCachedAsImmutable() throws Exception {
+        mockMvc.perform(get("/images/exercises/Burpee.gif"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    @Test
+    void rangeRequest_shouldReturnPartialContent() throws Exception {
+        String url = exerciseImageResolver.resolve("/images/exercises/Burpee.gif", null);
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=7-12"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-12/20"))
+                .andExpect(content().string("burpee"));
+    }
+
+    @Test
+    void precompressedVariant_shouldBeServed_whenClientAcceptsIt() throws Exception {
+        mockMvc.perform(get("/images/exercises/Burpee.gif").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(content().string("gzipped-burpee"));
+
+        mockMvc.perform(get("/images/exercises/Burpee.gif"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("GIF89a-burpee-frames"));
+    }
+
+    private static Path createMediaDirectory() {
+        try {
+            Path directory = Files.createTempDirectory("exercise-images");
+            Files.writeString(directory.resolve("Burpee.gif"), "GIF89a-burpee-frames", StandardCharsets.US_ASCII);
+            Files.writeString(directory.resolve("Burpee.gif.gz"), "gzipped-burpee", StandardCharsets.US_ASCII);
+            directory.toFile().deleteOnExit();
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
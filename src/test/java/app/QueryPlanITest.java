@@ -0,0 +1,60 @@
+package app;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the SQL behind the hot progress/workout queries through H2's EXPLAIN and checks that
+ * each one is answered from its index instead of a table scan.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QueryPlanITest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recentProgressByUser_shouldSeekOnUserInsteadOfScanning() {
+        String plan = explain("SELECT * FROM `progress` WHERE `user_id` = ? ORDER BY `timestamp` DESC LIMIT 10",
+                UUID.randomUUID());
+
+        // H2 keeps the foreign key's own user_id index and may pick it for this one; MySQL drops
+        // that implicit index once idx_progress_user_timestamp covers the column.
+        assertThat(plan).containsIgnoringCase("USER_ID = ?1 */").doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void workoutCountsSince_shouldUseTheUserTimestampIndex() {
+        String plan = explain("SELECT COUNT(DISTINCT `workout_id`) FROM `progress` " +
+                "WHERE `user_id` = ? AND `timestamp` > ?", UUID.randomUUID(), LocalDateTime.now().minusDays(7));
+
+        assertThat(plan).containsIgnoringCase("idx_progress_user_timestamp");
+    }
+
+    @Test
+    void deleteProgressByWorkout_shouldUseTheWorkoutIndex() {
+        String plan = explain("DELETE FROM `progress` WHERE `workout_id` = ?", UUID.randomUUID());
+
+        assertThat(plan).containsIgnoringCase("idx_progress_workout");
+    }
+
+    @Test
+    void workoutsCreatedBefore_shouldUseTheCreatedOnIndex() {
+        String plan = explain("SELECT `id` FROM `workout` WHERE `created_on` < ?", LocalDateTime.now().minusMonths(1));
+
+        assertThat(plan).containsIgnoringCase("idx_workout_created_on");
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
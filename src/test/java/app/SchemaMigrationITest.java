@@ -0,0 +1,33 @@
+package app;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds a fresh H2 database (MySQL mode) from db/migration with Flyway and boots against it with
+ * ddl-auto=validate, so a migration that drifts from the entity mappings fails here rather than
+ * at startup in production.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+public class SchemaMigrationITest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    void migrations_shouldBuildTheSchemaTheEntitiesExpect() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).isNotEmpty()
+                .allSatisfy(migration -> assertThat(migration.getState().isFailed()).isFalse());
+    }
+}
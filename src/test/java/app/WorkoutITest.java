@@ -7,20 +7,37 @@ import app.exercise.repository.ExerciseRepository;
 import app.progress.model.Progress;
 import app.progress.repository.ProgressRepository;
 import app.progress.service.ProgressService;
+import app.progress.service.StreakService;
+import app.stats.model.UserStats;
+import app.stats.service.UserStatsService;
 import app.user.model.User;
+import app.user.model.UserIdProjection;
+import app.user.model.UserListItem;
 import app.user.repository.UserRepository;
+import app.user.service.UserService;
+import app.web.dto.ProgressHistoryPage;
+import app.web.dto.WorkoutProgress;
+import app.workout.model.ArchivedWorkout;
 import app.workout.model.Workout;
+import app.workout.repository.ArchivedWorkoutRepository;
 import app.workout.repository.WorkoutRepository;
 import app.workout.service.WorkoutService;
 import app.security.AuthenticationMetadata;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,6 +58,9 @@ public class WorkoutITest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
     @Autowired
     private ExerciseRepository exerciseRepository;
 
@@ -53,6 +73,21 @@ public class WorkoutITest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ArchivedWorkoutRepository archivedWorkoutRepository;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private StreakService streakService;
+
     @Test
     void createWorkout_shouldPersistWorkoutAndLinkExercises() {
         // Given
@@ -217,4 +252,313 @@ public class WorkoutITest {
         assertEquals(3, longestStreak, "Expected longest workout streak to be 3");
     }
 
+    @Test
+    void workoutCounts_shouldBeAggregatedInDatabase() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        Exercise exercise = exerciseRepository.save(TestBuilder.aRandomExercise(category));
+        AuthenticationMetadata auth = new AuthenticationMetadata
+                (user.getId(), user.getUsername(), "12345678", USER, true);
+
+        Workout workout = workoutService.createWorkout("Full Body", auth, List.of(exercise), true);
+        for (int i = 0; i < 3; i++) {
+            progressRepository.save(Progress.builder()
+                    .user(user)
+                    .workout(workout)
+                    .exercise(exercise)
+                    .timestamp(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+
+        // When
+        int totalWorkouts = progressService.getTotalWorkouts(user.getId());
+        int monthlyWorkouts = progressService.getMonthlyWorkoutCount(user.getId());
+        String lastWorkoutDate = progressService.getLastWorkoutDate(user.getId());
+
+        // Then
+        assertEquals(1, totalWorkouts);
+        assertEquals(1, monthlyWorkouts);
+        assertEquals(LocalDate.now().toString(), lastWorkoutDate);
+    }
+
+    @Test
+    void userChunks_shouldWalkEveryUserOnceInIdOrder() {
+        // Given
+        List<UUID> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(userRepository.save(TestBuilder.aRandomUser()).getId());
+        }
+
+        // When
+        List<UUID> walkedIds = new ArrayList<>();
+        UUID after = null;
+        List<UserIdProjection> chunk;
+        do {
+            chunk = userService.getUserChunk(after, 2);
+            chunk.forEach(user -> walkedIds.add(user.getId()));
+            after = chunk.isEmpty() ? after : chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == 2);
+
+        // Then
+        assertEquals(userRepository.count(), walkedIds.size());
+        assertTrue(walkedIds.containsAll(savedIds));
+        assertEquals(walkedIds.stream().distinct().count(), walkedIds.size());
+    }
+
+    @Test
+    void searchUsers_shouldMatchUsernameOrEmailPrefixAndPageByCursor() {
+        // Given
+        User first = TestBuilder.aRandomUser();
+        first.setUsername("prefix_a");
+        User second = TestBuilder.aRandomUser();
+        second.setUsername("prefix_b");
+        User third = TestBuilder.aRandomUser();
+        third.setEmail("prefix_mail@test.com");
+        User wildcard = TestBuilder.aRandomUser();
+        wildcard.setUsername("prefixXa");
+        userRepository.saveAll(List.of(first, second, third, wildcard));
+
+        // When
+        List<String> page = userService.searchUsers("prefix_", 0, "username", "asc")
+                .map(UserListItem::getUsername).getContent();
+        List<UserListItem> firstChunk = userService.searchUsersAfter("prefix_", null, 2);
+        List<UserListItem> secondChunk = userService.searchUsersAfter("prefix_", firstChunk.get(1).getUsername(), 2);
+
+        // Then
+        assertEquals(3, page.size());
+        assertFalse(page.contains("prefixXa"));
+        assertEquals(2, firstChunk.size());
+        assertEquals(1, secondChunk.size());
+    }
+
+    @Test
+    void userView_shouldBeCachedUntilThatUserChanges() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        User other = userRepository.save(TestBuilder.aRandomUser());
+        userService.getUserView(user.getId());
+        userService.getUserView(other.getId());
+
+        // When
+        userRepository.findById(other.getId()).ifPresent(entity -> {
+            entity.setFirstName("Changed behind the cache");
+            userRepository.save(entity);
+        });
+        userService.switchStatus(user.getId());
+
+        // Then
+        assertFalse(userService.getUserView(user.getId()).isActive());
+        assertNull(userService.getUserView(other.getId()).getFirstName());
+    }
+
+    @Test
+    void completeWorkout_shouldPersistWorkoutProgressAndStatsTogether() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        Exercise first = exerciseRepository.save(TestBuilder.aRandomExercise(category));
+        Exercise second = exerciseRepository.save(TestBuilder.aRandomExercise(category));
+
+        // When
+        Workout workout = workoutService.completeWorkout(user.getId(), "Full Body",
+                List.of(first.getId(), second.getId()), true);
+
+        // Then
+        assertTrue(workoutRepository.findById(workout.getId()).orElseThrow().isCompleted());
+        assertEquals(2, exerciseRepository.findAllByWorkoutId(workout.getId()).size());
+        assertEquals(2, progressRepository.findByUserId(user.getId()).size());
+        assertEquals(1, progressService.getTotalWorkouts(user.getId()));
+        assertEquals(1, progressService.calculateWorkoutStreak(user.getId()));
+    }
+
+    @Test
+    void streaks_shouldOnlyPersistTheBitmapOnTheFirstRecordedDay() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        LocalDate today = LocalDate.now();
+
+        // When
+        streakService.getSummary(user.getId());
+        int rowsAfterRead = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_activity WHERE user_id = ?",
+                Integer.class, user.getId());
+        streakService.recordWorkoutDay(user.getId(), today.minusDays(1));
+        streakService.recordWorkoutDay(user.getId(), today);
+
+        // Then
+        assertEquals(0, rowsAfterRead);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_activity WHERE user_id = ?",
+                Integer.class, user.getId()));
+        assertEquals(2, streakService.getCurrentStreaks(List.of(user.getId()), today).get(user.getId()));
+    }
+
+    @Test
+    void completeWorkout_shouldNeedOnlyAHandfulOfStatementsWhateverTheExerciseCount() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        List<UUID> exerciseIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            exerciseIds.add(exerciseRepository.save(TestBuilder.aRandomExercise(category)).getId());
+        }
+
+        // The first completion creates the stats and streak rows, as in steady state afterwards.
+        workoutService.completeWorkout(user.getId(), "Warm-up", exerciseIds, true);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // When
+        statistics.clear();
+        workoutService.completeWorkout(user.getId(), "Batched", exerciseIds, true);
+        long batchedStatements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        // Then
+        // Measured on H2 with 10 exercises: 7 statements, against 98 for the per-exercise saves it replaced.
+        assertTrue(batchedStatements <= 10, "batched: %d statements".formatted(batchedStatements));
+    }
+
+    @Test
+    void completeWorkout_withUnknownExercise_shouldSaveNothing() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        Exercise exercise = exerciseRepository.save(TestBuilder.aRandomExercise(category));
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> workoutService.completeWorkout(user.getId(), "Typo",
+                List.of(exercise.getId(), UUID.randomUUID()), true));
+
+        // Then
+        assertTrue(workoutIdsOf(user).isEmpty());
+        assertTrue(progressRepository.findByUserId(user.getId()).isEmpty());
+    }
+
+    @Test
+    void archiveWorkoutsBefore_shouldPurgeOldWorkoutsWithTheirProgressAndExerciseLinksChunkByChunk() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        Exercise exercise = exerciseRepository.save(TestBuilder.aRandomExercise(category));
+        LocalDate cutoff = LocalDate.now().minusMonths(1);
+
+        for (int i = 0; i < 5; i++) {
+            saveWorkoutWithProgress(user, exercise, cutoff.minusDays(i + 1).atStartOfDay());
+        }
+        Workout recent = saveWorkoutWithProgress(user, exercise, LocalDateTime.now());
+        WorkoutService target = AopTestUtils.getTargetObject(workoutService);
+        ReflectionTestUtils.setField(target, "cleanupChunkSize", 2);
+
+        // When
+        int archived = workoutService.archiveWorkoutsBefore(cutoff);
+
+        // Then
+        assertEquals(5, archived);
+        assertEquals(List.of(recent.getId()), workoutIdsOf(user));
+        assertEquals(1, progressRepository.findByUserId(user.getId()).size());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM workout_exercises WHERE workout_id = ?",
+                Integer.class, recent.getId()));
+        assertTrue(exerciseRepository.existsById(exercise.getId()));
+    }
+
+    @Test
+    void archiveWorkoutsBefore_shouldMoveOldWorkoutsToTheArchiveWithoutLosingLongTermStats() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        Exercise exercise = exerciseRepository.save(TestBuilder.aRandomExercise(category));
+        LocalDate cutoff = LocalDate.now().minusMonths(1);
+
+        for (int i = 1; i <= 3; i++) {
+            saveWorkoutWithProgress(user, exercise, cutoff.minusDays(i).atTime(10, 0));
+        }
+        saveWorkoutWithProgress(user, exercise, LocalDateTime.now());
+        UserStats before = userStatsService.rebuild(user.getId());
+
+        // When
+        int archived = workoutService.archiveWorkoutsBefore(cutoff);
+
+        // Then
+        assertEquals(3, archived);
+        assertEquals(1, workoutIdsOf(user).size());
+        assertEquals(1, progressRepository.findByUserId(user.getId()).size());
+        List<ArchivedWorkout> rows = archivedWorkoutRepository.findAll().stream()
+                .filter(row -> row.getUserId().equals(user.getId()))
+                .toList();
+        assertEquals(3, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.getCompletions() == 1 && row.getExerciseCount() == 1));
+
+        UserStats after = userStatsService.rebuild(user.getId());
+        assertEquals(4, before.getTotalWorkouts());
+        assertEquals(before.getTotalWorkouts(), after.getTotalWorkouts());
+        assertEquals(3, after.getLongestStreak());
+        assertEquals(4, progressService.getTotalWorkouts(user.getId()));
+
+        streakService.rebuild(user.getId());
+        assertEquals(3, progressService.calculateLongestStreak(user.getId()));
+    }
+
+    @Test
+    void progressHistory_shouldWalkEveryRowOnceWithOneStatementPerPage() {
+        // Given
+        User user = userRepository.save(TestBuilder.aRandomUser());
+        Category category = categoryRepository.save(TestBuilder.aRandomCategory());
+        List<UUID> exerciseIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            exerciseIds.add(exerciseRepository.save(TestBuilder.aRandomExercise(category)).getId());
+        }
+        for (int i = 0; i < 7; i++) {
+            workoutService.completeWorkout(user.getId(), "Workout " + i, exerciseIds, true);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // When
+        // Rows of one workout share a timestamp, so pages only line up through the id tie-break.
+        List<WorkoutProgress> workouts = new ArrayList<>();
+        List<Long> statementsPerPage = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            ProgressHistoryPage page = progressService.getProgressHistory(user.getId(), cursor, 4);
+            statementsPerPage.add(statistics.getPrepareStatementCount());
+            workouts.addAll(page.getWorkouts());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        statistics.setStatisticsEnabled(false);
+
+        // Then
+        assertTrue(statementsPerPage.stream().allMatch(count -> count == 1), statementsPerPage.toString());
+        assertEquals(21, workouts.stream().mapToInt(workout -> workout.getExercises().size()).sum());
+        // Pages end on a workout boundary, so no workout shows up split across two pages.
+        assertEquals(7, workouts.size());
+        assertEquals(7, workouts.stream().map(WorkoutProgress::getWorkoutId).distinct().count());
+        assertEquals(7, progressService.getTotalWorkouts(user.getId()));
+    }
+
+    private List<UUID> workoutIdsOf(User user) {
+        return workoutRepository.findAll().stream()
+                .filter(workout -> workout.getUser().getId().equals(user.getId()))
+                .map(Workout::getId)
+                .toList();
+    }
+
+    private Workout saveWorkoutWithProgress(User user, Exercise exercise, LocalDateTime createdOn) {
+        Workout workout = workoutRepository.save(Workout.builder()
+                .name("Workout " + createdOn)
+                .user(user)
+                .exercises(new ArrayList<>(List.of(exercise)))
+                .completed(true)
+                .createdOn(createdOn)
+                .build());
+        progressRepository.save(Progress.builder()
+                .user(user)
+                .exercise(exercise)
+                .workout(workout)
+                .timestamp(createdOn)
+                .build());
+        return workout;
+    }
 }
@@ -1,8 +1,8 @@
 package app.category;
 
 import app.category.model.Category;
-import app.category.repository.CategoryRepository;
 import app.category.service.CategoryService;
+import app.exercise.service.ExerciseCatalog;
 import app.progress.model.Progress;
 import app.progress.service.ProgressService;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +25,7 @@ import static org.mockito.Mockito.*;
 public class CategoryServiceUTest {
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private ExerciseCatalog exerciseCatalog;
 
     @Mock
     private ProgressService progressService;
@@ -55,19 +55,19 @@ public class CategoryServiceUTest {
     void givenNoProgressHistory_whenGetNextMuscleGroup_thenReturnFirstCategory() {
         List<Category> allCategories = Arrays.asList(category1, category2, category3);
         when(progressService.getUserProgressSummary(userId)).thenReturn(Collections.emptyList());
-        when(categoryRepository.findAll()).thenReturn(allCategories);
+        when(exerciseCatalog.getCategories()).thenReturn(allCategories);
 
         Category result = categoryService.getNextMuscleGroup(userId);
 
         assertThat(result).isEqualTo(category1);
         verify(progressService, times(1)).getUserProgressSummary(userId);
-        verify(categoryRepository, times(1)).findAll();
+        verify(exerciseCatalog, times(1)).getCategories();
     }
 
     @Test
     void givenProgressHistory_whenGetNextMuscleGroup_thenReturnLeastTrainedCategory() {
         List<Category> allCategories = Arrays.asList(category1, category2, category3);
-        when(categoryRepository.findAll()).thenReturn(allCategories);
+        when(exerciseCatalog.getCategories()).thenReturn(allCategories);
 
         Progress progress1 = new Progress();
         progress1.setTimestamp(LocalDateTime.now().minusDays(2));
@@ -85,13 +85,13 @@ public class CategoryServiceUTest {
 
         assertThat(result).isEqualTo(category3);
         verify(progressService, times(1)).getUserProgressSummary(userId);
-        verify(categoryRepository, times(1)).findAll();
+        verify(exerciseCatalog, times(1)).getCategories();
     }
 
     @Test
     void givenAllCategoriesTrainedRecently_whenGetNextMuscleGroup_thenReturnLeastRecentlyTrainedCategory() {
         List<Category> allCategories = Arrays.asList(category1, category2, category3);
-        when(categoryRepository.findAll()).thenReturn(allCategories);
+        when(exerciseCatalog.getCategories()).thenReturn(allCategories);
 
         Progress progress1 = new Progress();
         progress1.setTimestamp(LocalDateTime.now().minusDays(1));
@@ -114,6 +114,6 @@ public class CategoryServiceUTest {
 
         assertThat(result).isEqualTo(category2);
         verify(progressService, times(1)).getUserProgressSummary(userId);
-        verify(categoryRepository, times(1)).findAll();
+        verify(exerciseCatalog, times(1)).getCategories();
     }
 }
@@ -0,0 +1,81 @@
+package app.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MediaResourceHttpMessageConverterUTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void resetRequestContext() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void givenSendfileSupport_whenWritingFile_thenHandOffToConnector() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("squat.gif"), "GIF89a");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(MediaResourceHttpMessageConverter.SENDFILE_SUPPORT, Boolean.TRUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new MediaResourceHttpMessageConverter()
+                .write(new FileSystemResource(file), MediaType.IMAGE_GIF, new ServletServerHttpResponse(response));
+
+        // Then
+        assertThat(request.getAttribute(MediaResourceHttpMessageConverter.SENDFILE_FILENAME))
+                .isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(MediaResourceHttpMessageConverter.SENDFILE_START)).isEqualTo(0L);
+        assertThat(request.getAttribute(MediaResourceHttpMessageConverter.SENDFILE_END)).isEqualTo(6L);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLength()).isEqualTo(6);
+    }
+
+    @Test
+    void givenNoSendfileSupport_whenWritingFile_thenCopyAsUsual() throws Exception {
+        // Given
+        Path file = Files.writeString(directory.resolve("squat.gif"), "GIF89a");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new MediaResourceHttpMessageConverter()
+                .write(new FileSystemResource(file), MediaType.IMAGE_GIF, new ServletServerHttpResponse(response));
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("GIF89a");
+        assertThat(request.getAttribute(MediaResourceHttpMessageConverter.SENDFILE_FILENAME)).isNull();
+    }
+
+    @Test
+    void givenResourceInsideJar_whenWriting_thenCopyAsUsual() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        new MediaResourceHttpMessageConverter()
+                .write(new ByteArrayResource("GIF89a".getBytes()), MediaType.IMAGE_GIF, new ServletServerHttpResponse(response));
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("GIF89a");
+    }
+}
@@ -0,0 +1,126 @@
+package app.exercise;
+
+import app.category.model.Category;
+import app.category.repository.CategoryRepository;
+import app.exercise.model.CategoryExercises;
+import app.exercise.model.Exercise;
+import app.exercise.repository.ExerciseRepository;
+import app.exercise.service.ExerciseCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExerciseCatalogUTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @InjectMocks
+    private ExerciseCatalog exerciseCatalog;
+
+    private Category chest;
+    private Category legs;
+    private Exercise pushUp;
+    private Exercise benchPress;
+    private Exercise squat;
+
+    @BeforeEach
+    void setUp() {
+        chest = Category.builder().id(UUID.randomUUID()).name("Chest").build();
+        legs = Category.builder().id(UUID.randomUUID()).name("Legs").build();
+        pushUp = Exercise.builder().id(UUID.randomUUID()).name("Push-up").category(chest).build();
+        benchPress = Exercise.builder().id(UUID.randomUUID()).name("Bench Press").category(chest).build();
+        squat = Exercise.builder().id(UUID.randomUUID()).name("Squat").category(legs).build();
+    }
+
+    @Test
+    void refresh_shouldServeAllReadsWithoutFurtherQueries() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(chest, legs));
+        when(exerciseRepository.findAllWithCategory()).thenReturn(List.of(pushUp, squat, benchPress));
+
+        // When
+        exerciseCatalog.refresh();
+
+        // Then
+        assertThat(exerciseCatalog.getCategories()).containsExactly(chest, legs);
+        assertThat(exerciseCatalog.findCategory("Legs")).contains(legs);
+        assertThat(exerciseCatalog.findCategory("Arms")).isEmpty();
+        assertThat(exerciseCatalog.getExercisesByCategory("Chest")).containsExactly(pushUp, benchPress);
+        assertThat(exerciseCatalog.getExercisesByCategory("Arms")).isEmpty();
+        assertThat(exerciseCatalog.findExercise(squat.getId())).contains(squat);
+        assertThat(exerciseCatalog.getExercises()).hasSize(3);
+        verify(categoryRepository, times(1)).findAll();
+        verify(exerciseRepository, times(1)).findAllWithCategory();
+        verifyNoMoreInteractions(categoryRepository, exerciseRepository);
+    }
+
+    @Test
+    void getExercisesByIds_shouldKeepRequestedOrderAndSkipUnknownIds() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(chest, legs));
+        when(exerciseRepository.findAllWithCategory()).thenReturn(List.of(pushUp, squat, benchPress));
+        exerciseCatalog.refresh();
+
+        // When
+        List<Exercise> result = exerciseCatalog.getExercisesByIds(
+                List.of(squat.getId(), UUID.randomUUID(), pushUp.getId()));
+
+        // Then
+        assertThat(result).containsExactly(squat, pushUp);
+    }
+
+    @Test
+    void refresh_shouldReplaceWholeCatalog() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(chest, legs), List.of(chest));
+        when(exerciseRepository.findAllWithCategory()).thenReturn(List.of(pushUp, squat), List.of(pushUp));
+        exerciseCatalog.refresh();
+
+        // When
+        exerciseCatalog.refresh();
+
+        // Then
+        assertThat(exerciseCatalog.getCategories()).containsExactly(chest);
+        assertThat(exerciseCatalog.getExercisesByCategory("Legs")).isEmpty();
+        assertThat(exerciseCatalog.findExercise(squat.getId())).isEmpty();
+        assertThat(exerciseCatalog.getCategoryExercises("Chest"))
+                .isEqualTo(new CategoryExercises(2L, true, List.of(pushUp)));
+        assertThat(exerciseCatalog.getCategoryExercises("Legs").isKnownCategory()).isFalse();
+    }
+
+    @Test
+    void getCategories_shouldBeImmutable() {
+        // Given
+        when(categoryRepository.findAll()).thenReturn(List.of(chest));
+        when(exerciseRepository.findAllWithCategory()).thenReturn(List.of(pushUp));
+        exerciseCatalog.refresh();
+
+        // When / Then
+        assertThatThrownBy(() -> exerciseCatalog.getCategories().add(legs))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> exerciseCatalog.getExercisesByCategory("Chest").add(squat))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void reads_shouldBeEmpty_beforeFirstLoad() {
+        assertThat(exerciseCatalog.getCategories()).isEmpty();
+        assertThat(exerciseCatalog.getExercisesByIds(List.of(pushUp.getId()))).isEmpty();
+        verifyNoInteractions(categoryRepository, exerciseRepository);
+    }
+}
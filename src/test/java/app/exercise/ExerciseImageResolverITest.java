@@ -0,0 +1,53 @@
+package app.exercise;
+
+import app.exercise.service.ExerciseImageResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ExerciseImageResolverITest {
+
+    @Autowired
+    private ExerciseImageResolver exerciseImageResolver;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void fingerprintedImage_shouldBeServedAsImmutable() throws Exception {
+        String url = exerciseImageResolver.resolve("/images/exercises/CalfRaises.gif", "image/webp,*/*");
+
+        assertTrue(url.matches("/images/exercises/CalfRaises-[0-9a-f]{32}\\.gif"), url);
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    void thumbnail_shouldBeGeneratedAtStartupAndServed() throws Exception {
+        String url = exerciseImageResolver.resolveThumbnail("/images/exercises/CalfRaises.gif");
+
+        assertTrue(url.matches("/images/thumbnails/CalfRaises-[0-9a-f]{32}\\.jpg"), url);
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    void staleFingerprint_shouldNotBeServed() throws Exception {
+        mockMvc.perform(get("/images/exercises/CalfRaises-00000000000000000000000000000000.gif"))
+                .andExpect(status().isNotFound());
+    }
+}
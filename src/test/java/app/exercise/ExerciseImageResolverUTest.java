@@ -0,0 +1,103 @@
+package app.exercise;
+
+import app.exercise.service.ExerciseImageResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExerciseImageResolverUTest {
+
+    private static final String BROWSER_ACCEPT = "image/avif,image/webp,image/apng,image/*,*/*;q=0.8";
+
+    @Mock
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Mock
+    private ResourcePatternResolver resourcePatternResolver;
+
+    private ExerciseImageResolver exerciseImageResolver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(resourcePatternResolver.getResources("classpath:/static/images/exercises/*")).thenReturn(new Resource[]{
+                new ClassPathResource("static/images/exercises/Squat.gif"),
+                new ClassPathResource("static/images/exercises/Squat.webp"),
+                new ClassPathResource("static/images/exercises/Lunge.gif")
+        });
+        exerciseImageResolver = new ExerciseImageResolver(resourceUrlProvider, resourcePatternResolver, "");
+    }
+
+    @Test
+    void resolve_shouldPickFingerprintedWebp_whenBrowserAcceptsIt() {
+        // Given
+        when(resourceUrlProvider.getForLookupPath("/images/exercises/Squat.webp"))
+                .thenReturn("/images/exercises/Squat-0123abcd.webp");
+
+        // When
+        String url = exerciseImageResolver.resolve("/images/exercises/Squat.gif", BROWSER_ACCEPT);
+
+        // Then
+        assertThat(url).isEqualTo("/images/exercises/Squat-0123abcd.webp");
+    }
+
+    @Test
+    void resolve_shouldKeepGif_whenWebpNotAccepted() {
+        // Given
+        when(resourceUrlProvider.getForLookupPath("/images/exercises/Squat.gif"))
+                .thenReturn("/images/exercises/Squat-4567cdef.gif");
+
+        // When
+        String url = exerciseImageResolver.resolve("/images/exercises/Squat.gif", "image/gif,image/webp;q=0");
+
+        // Then
+        assertThat(url).isEqualTo("/images/exercises/Squat-4567cdef.gif");
+    }
+
+    @Test
+    void resolve_shouldKeepGif_whenNoWebpVariantExists() {
+        // Given
+        when(resourceUrlProvider.getForLookupPath("/images/exercises/Lunge.gif"))
+                .thenReturn("/images/exercises/Lunge-89ab0123.gif");
+
+        // When
+        String url = exerciseImageResolver.resolve("/images/exercises/Lunge.gif", BROWSER_ACCEPT);
+
+        // Then
+        assertThat(url).isEqualTo("/images/exercises/Lunge-89ab0123.gif");
+    }
+
+    @Test
+    void resolveWebp_shouldReturnTheVariantWithoutLookingAtAccept_orNullWhenThereIsNone() {
+        // Given
+        when(resourceUrlProvider.getForLookupPath("/images/exercises/Squat.webp"))
+                .thenReturn("/images/exercises/Squat-0123abcd.webp");
+
+        // When
+        String squat = exerciseImageResolver.resolveWebp("/images/exercises/Squat.gif");
+        String lunge = exerciseImageResolver.resolveWebp("/images/exercises/Lunge.gif");
+
+        // Then
+        assertThat(squat).isEqualTo("/images/exercises/Squat-0123abcd.webp");
+        assertThat(lunge).isNull();
+    }
+
+    @Test
+    void resolve_shouldLeaveForeignUrlsAlone() {
+        // When
+        String url = exerciseImageResolver.resolve("https://cdn.example.com/squat.gif", BROWSER_ACCEPT);
+
+        // Then
+        assertThat(url).isEqualTo("https://cdn.example.com/squat.gif");
+        verifyNoInteractions(resourceUrlProvider);
+    }
+}
@@ -0,0 +1,102 @@
+package app.exercise;
+
+import app.category.model.Category;
+import app.exercise.model.CategoryExercises;
+import app.exercise.model.Exercise;
+import app.exercise.model.ExercisePayload;
+import app.exercise.service.ExerciseCatalog;
+import app.exercise.service.ExerciseImageResolver;
+import app.exercise.service.ExercisePayloadCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExercisePayloadCacheUTest {
+
+    @Mock
+    private ExerciseCatalog exerciseCatalog;
+
+    @Mock
+    private ExerciseImageResolver exerciseImageResolver;
+
+    private ExercisePayloadCache exercisePayloadCache;
+    private Category chest;
+    private Exercise pushUp;
+
+    @BeforeEach
+    void setUp() {
+        exercisePayloadCache = new ExercisePayloadCache(exerciseCatalog, new ObjectMapper(), exerciseImageResolver);
+        chest = Category.builder().id(UUID.randomUUID()).name("Chest").build();
+        pushUp = Exercise.builder().id(UUID.randomUUID()).name("Push-up").gifUrl("/images/exercises/PushUp.gif")
+                .sets(3).reps(10).category(chest).build();
+    }
+
+    @Test
+    void getByCategory_shouldSerializeOncePerCatalogVersion() {
+        // Given
+        when(exerciseCatalog.getCategoryExercises("Chest")).thenReturn(new CategoryExercises(1L, true, List.of(pushUp)));
+
+        when(exerciseImageResolver.resolve("/images/exercises/PushUp.gif", null))
+                .thenReturn("/images/exercises/PushUp-0123abcd.gif");
+        when(exerciseImageResolver.resolveThumbnail("/images/exercises/PushUp.gif"))
+                .thenReturn("/images/thumbnails/PushUp-4567cdef.jpg");
+        when(exerciseImageResolver.resolveWebp("/images/exercises/PushUp.gif"))
+                .thenReturn("/images/exercises/PushUp-89abcdef.webp");
+
+        // When
+        ExercisePayload first = exercisePayloadCache.getByCategory("Chest");
+        ExercisePayload second = exercisePayloadCache.getByCategory("Chest");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8))
+                .contains("\"name\":\"Push-up\"")
+                .contains("\"gifUrl\":\"/images/exercises/PushUp-0123abcd.gif\"")
+                .contains("\"thumbnailUrl\":\"/images/thumbnails/PushUp-4567cdef.jpg\"")
+                .contains("\"webpUrl\":\"/images/exercises/PushUp-89abcdef.webp\"");
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+        verify(exerciseImageResolver, times(1)).resolve("/images/exercises/PushUp.gif", null);
+    }
+
+    @Test
+    void getByCategory_shouldRebuildPayload_whenCatalogChanges() {
+        // Given
+        when(exerciseCatalog.getCategoryExercises("Chest")).thenReturn(
+                new CategoryExercises(1L, true, List.of(pushUp)), new CategoryExercises(2L, true, List.of(pushUp)));
+        ExercisePayload before = exercisePayloadCache.getByCategory("Chest");
+
+        // When
+        pushUp.setSets(5);
+        ExercisePayload after = exercisePayloadCache.getByCategory("Chest");
+
+        // Then
+        assertThat(after.getCatalogVersion()).isEqualTo(2L);
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+        assertThat(exercisePayloadCache.getByCategory("Chest")).isSameAs(after);
+    }
+
+    @Test
+    void getByCategory_shouldNotCacheUnknownCategories() {
+        // Given
+        when(exerciseCatalog.getCategoryExercises("Nope")).thenReturn(new CategoryExercises(1L, false, List.of()));
+
+        // When
+        ExercisePayload payload = exercisePayloadCache.getByCategory("Nope");
+        ExercisePayload again = exercisePayloadCache.getByCategory("Nope");
+
+        // Then
+        assertThat(new String(payload.getBody(), StandardCharsets.UTF_8)).isEqualTo("[]");
+        assertThat(again).isNotSameAs(payload);
+    }
+}
@@ -1,17 +1,21 @@
 package app.exercise;
 
-import app.category.model.Category;
-import app.category.repository.CategoryRepository;
 import app.exercise.model.Exercise;
-import app.exercise.repository.ExerciseRepository;
+import app.exercise.service.ExerciseCatalog;
 import app.exercise.service.ExerciseService;
+import app.exercise.service.LocalWorkoutSelectionStore;
+import app.exercise.service.WorkoutSelectionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,10 +25,11 @@ import static org.mockito.Mockito.*;
 public class ExerciseServiceUTest {
 
     @Mock
-    private ExerciseRepository exerciseRepository;
+    private ExerciseCatalog exerciseCatalog;
 
-    @Mock
-    private CategoryRepository categoryRepository;
+    @Spy
+    private WorkoutSelectionStore workoutSelectionStore =
+            new LocalWorkoutSelectionStore(Duration.ofHours(1), 100, new SimpleMeterRegistry(), Clock.systemUTC());
 
     @InjectMocks
     private ExerciseService exerciseService;
@@ -49,51 +54,46 @@ public class ExerciseServiceUTest {
 
     @Test
     void getExercisesByIds_ShouldReturnExercises_WhenValidIdsProvided() {
-        when(exerciseRepository.findAllById(exerciseIds)).thenReturn(exerciseList);
+        when(exerciseCatalog.getExercisesByIds(exerciseIds)).thenReturn(exerciseList);
 
         List<Exercise> result = exerciseService.getExercisesByIds(exerciseIds);
 
         assertThat(result).hasSize(2);
-        verify(exerciseRepository, times(1)).findAllById(exerciseIds);
+        verify(exerciseCatalog, times(1)).getExercisesByIds(exerciseIds);
     }
 
     @Test
     void getExercisesByCategory_ShouldReturnExercises_WhenCategoryExists() {
         String categoryName = "Strength";
-        Category category = new Category();
-        category.setName(categoryName);
 
-        when(categoryRepository.findByName(categoryName)).thenReturn(category);
-        when(exerciseRepository.findByCategory(category)).thenReturn(exerciseList);
+        when(exerciseCatalog.getExercisesByCategory(categoryName)).thenReturn(exerciseList);
 
         List<Exercise> result = exerciseService.getExercisesByCategory(categoryName);
 
         assertThat(result).hasSize(2);
-        verify(categoryRepository, times(1)).findByName(categoryName);
-        verify(exerciseRepository, times(1)).findByCategory(category);
+        verify(exerciseCatalog, times(1)).getExercisesByCategory(categoryName);
     }
 
     @Test
     void getExercisesByCategory_ShouldReturnEmptyList_WhenCategoryDoesNotExist() {
         String categoryName = "NonExistent";
 
-        when(categoryRepository.findByName(categoryName)).thenReturn(null);
+        when(exerciseCatalog.getExercisesByCategory(categoryName)).thenReturn(List.of());
 
         List<Exercise> result = exerciseService.getExercisesByCategory(categoryName);
 
         assertThat(result).isEmpty();
-        verify(categoryRepository, times(1)).findByName(categoryName);
-        verify(exerciseRepository, never()).findByCategory(any());
+        verify(exerciseCatalog, times(1)).getExercisesByCategory(categoryName);
     }
 
     @Test
     void getAllExercises_ShouldReturnAllExercises() {
-        when(exerciseRepository.findAll()).thenReturn(exerciseList);
+        when(exerciseCatalog.getExercises()).thenReturn(exerciseList);
 
         List<Exercise> result = exerciseService.getAllExercises();
 
         assertThat(result).hasSize(2);
-        verify(exerciseRepository, times(1)).findAll();
+        verify(exerciseCatalog, times(1)).getExercises();
     }
 
     @Test
@@ -0,0 +1,93 @@
+package app.exercise;
+
+import app.exercise.service.ExerciseThumbnailGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExerciseThumbnailGeneratorUTest {
+
+    @Mock
+    private ResourcePatternResolver resourcePatternResolver;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void generate_shouldWriteScaledPosterOfFirstFrame() throws Exception {
+        // Given
+        Path gif = writeGif("Squat.gif", 480, 360);
+        when(resourcePatternResolver.getResources("classpath:/static/images/exercises/*.gif"))
+                .thenReturn(new Resource[]{new FileSystemResource(gif)});
+        Path thumbnails = directory.resolve("thumbnails");
+
+        // When
+        new ExerciseThumbnailGenerator(resourcePatternResolver, "", thumbnails.toString(), 160).generate();
+
+        // Then
+        BufferedImage thumbnail = ImageIO.read(thumbnails.resolve("Squat.jpg").toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(120);
+        assertThat(Files.size(thumbnails.resolve("Squat.jpg"))).isLessThan(Files.size(gif));
+    }
+
+    @Test
+    void generate_shouldKeepFreshPosterAndRedrawStaleOne() throws Exception {
+        // Given
+        Path squat = writeGif("Squat.gif", 320, 320);
+        Path lunge = writeGif("Lunge.gif", 320, 320);
+        when(resourcePatternResolver.getResources("classpath:/static/images/exercises/*.gif"))
+                .thenReturn(new Resource[]{new FileSystemResource(squat), new FileSystemResource(lunge)});
+        Path thumbnails = directory.resolve("thumbnails");
+        ExerciseThumbnailGenerator generator = new ExerciseThumbnailGenerator(resourcePatternResolver, "", thumbnails.toString(), 160);
+        generator.generate();
+        FileTime squatPoster = Files.getLastModifiedTime(thumbnails.resolve("Squat.jpg"));
+        Files.setLastModifiedTime(thumbnails.resolve("Lunge.jpg"), FileTime.from(Instant.EPOCH));
+
+        // When
+        generator.generate();
+
+        // Then
+        assertThat(Files.getLastModifiedTime(thumbnails.resolve("Squat.jpg"))).isEqualTo(squatPoster);
+        assertThat(Files.getLastModifiedTime(thumbnails.resolve("Lunge.jpg")).toInstant()).isAfter(Instant.EPOCH);
+    }
+
+    @Test
+    void generate_shouldSkipUnreadableImages() throws Exception {
+        // Given
+        Path broken = Files.writeString(directory.resolve("Broken.gif"), "not a gif");
+        Path truncated = Files.writeString(directory.resolve("Truncated.gif"), "GIF89a-truncated");
+        when(resourcePatternResolver.getResources("classpath:/static/images/exercises/*.gif"))
+                .thenReturn(new Resource[]{new FileSystemResource(broken), new FileSystemResource(truncated)});
+        Path thumbnails = directory.resolve("thumbnails");
+
+        // When
+        new ExerciseThumbnailGenerator(resourcePatternResolver, "", thumbnails.toString(), 160).generate();
+
+        // Then
+        assertThat(thumbnails.resolve("Broken.jpg")).doesNotExist();
+        assertThat(thumbnails.resolve("Truncated.jpg")).doesNotExist();
+    }
+
+    private Path writeGif(String name, int width, int height) throws Exception {
+        Path file = directory.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED), "gif", file.toFile());
+        return file;
+    }
+}
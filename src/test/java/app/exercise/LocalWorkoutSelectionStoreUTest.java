@@ -0,0 +1,130 @@
+package app.exercise;
+
+import app.exercise.service.LocalWorkoutSelectionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalWorkoutSelectionStoreUTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalWorkoutSelectionStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LocalWorkoutSelectionStore(Duration.ofMinutes(30), 2, meterRegistry, clock);
+        when(clock.instant()).thenReturn(START);
+    }
+
+    @Test
+    void getExercises_shouldDropEntryOnceTtlHasPassed() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        store.saveExercises(userId, List.of(UUID.randomUUID()));
+        store.saveSessionId(userId, UUID.randomUUID());
+
+        // When
+        when(clock.instant()).thenReturn(START.plus(Duration.ofMinutes(31)));
+
+        // Then
+        assertThat(store.getExercises(userId)).isEmpty();
+        assertThat(store.getSessionId(userId)).isNull();
+        assertThat(store.size()).isZero();
+        assertThat(evictions("expired")).isEqualTo(1);
+    }
+
+    @Test
+    void saveSessionId_shouldKeepSelectedExercises() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        List<UUID> exerciseIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        UUID sessionId = UUID.randomUUID();
+        store.saveExercises(userId, exerciseIds);
+
+        // When
+        store.saveSessionId(userId, sessionId);
+
+        // Then
+        assertThat(store.getExercises(userId)).isEqualTo(exerciseIds);
+        assertThat(store.getSessionId(userId)).isEqualTo(sessionId);
+    }
+
+    @Test
+    void saveExercises_shouldEvictLeastRecentlyUsedUser_whenFull() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        store.saveExercises(first, List.of(UUID.randomUUID()));
+        store.saveExercises(second, List.of(UUID.randomUUID()));
+        store.getExercises(first);
+
+        // When
+        store.saveExercises(third, List.of(UUID.randomUUID()));
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.getExercises(first)).hasSize(1);
+        assertThat(store.getExercises(second)).isEmpty();
+        assertThat(store.getExercises(third)).hasSize(1);
+        assertThat(evictions("size")).isEqualTo(1);
+        assertThat(meterRegistry.get("workout.selection.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void evictExpired_shouldDropOnlyExpiredEntries() {
+        // Given
+        UUID idle = UUID.randomUUID();
+        UUID active = UUID.randomUUID();
+        store.saveExercises(idle, List.of(UUID.randomUUID()));
+        when(clock.instant()).thenReturn(START.plus(Duration.ofMinutes(20)));
+        store.saveExercises(active, List.of(UUID.randomUUID()));
+
+        // When
+        when(clock.instant()).thenReturn(START.plus(Duration.ofMinutes(40)));
+        store.evictExpired();
+
+        // Then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.getExercises(active)).hasSize(1);
+        assertThat(evictions("expired")).isEqualTo(1);
+    }
+
+    @Test
+    void clear_shouldRemoveSelectionAndSession() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        store.saveExercises(userId, List.of(UUID.randomUUID()));
+        store.saveSessionId(userId, UUID.randomUUID());
+
+        // When
+        store.clear(userId);
+
+        // Then
+        assertThat(store.getExercises(userId)).isEmpty();
+        assertThat(store.getSessionId(userId)).isNull();
+    }
+
+    private double evictions(String cause) {
+        return meterRegistry.get("workout.selection.evictions").tag("cause", cause).counter().count();
+    }
+}
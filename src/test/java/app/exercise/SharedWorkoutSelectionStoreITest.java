@@ -0,0 +1,90 @@
+package app.exercise;
+
+import app.exercise.model.WorkoutSelection;
+import app.exercise.repository.WorkoutSelectionRepository;
+import app.exercise.service.ExerciseService;
+import app.exercise.service.SharedWorkoutSelectionStore;
+import app.exercise.service.WorkoutSelectionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "workout.selection.store=shared")
+@ActiveProfiles("test")
+public class SharedWorkoutSelectionStoreITest {
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private WorkoutSelectionStore workoutSelectionStore;
+
+    @Autowired
+    private WorkoutSelectionRepository workoutSelectionRepository;
+
+    @Test
+    void selection_shouldBeVisibleFromAnotherNode() {
+        assertInstanceOf(SharedWorkoutSelectionStore.class, workoutSelectionStore);
+
+        // A second store on the same table stands in for another application node.
+        WorkoutSelectionStore otherNode =
+                new SharedWorkoutSelectionStore(workoutSelectionRepository, 120, new SimpleMeterRegistry());
+        UUID userId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        List<UUID> exerciseIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        exerciseService.storeUserSelectedExercises(userId, exerciseIds);
+        exerciseService.storeWorkoutSessionId(userId, sessionId);
+
+        assertEquals(exerciseIds, otherNode.getExercises(userId));
+        assertEquals(sessionId, otherNode.getSessionId(userId));
+
+        otherNode.clear(userId);
+
+        assertTrue(exerciseService.getUserSelectedExercises(userId).isEmpty());
+        assertNull(exerciseService.getWorkoutSessionId(userId));
+    }
+
+    @Test
+    void expiredSelection_shouldBeIgnoredAndSwept() {
+        UUID userId = UUID.randomUUID();
+        workoutSelectionRepository.save(WorkoutSelection.builder()
+                .userId(userId)
+                .exerciseIds(UUID.randomUUID().toString())
+                .sessionId(UUID.randomUUID())
+                .expiresOn(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        assertTrue(workoutSelectionStore.getExercises(userId).isEmpty());
+        assertNull(workoutSelectionStore.getSessionId(userId));
+
+        ((SharedWorkoutSelectionStore) workoutSelectionStore).evictExpired();
+
+        assertFalse(workoutSelectionRepository.existsById(userId));
+    }
+
+    @Test
+    void saveExercises_shouldReplaceExpiredRow() {
+        UUID userId = UUID.randomUUID();
+        workoutSelectionRepository.save(WorkoutSelection.builder()
+                .userId(userId)
+                .exerciseIds(UUID.randomUUID().toString())
+                .sessionId(UUID.randomUUID())
+                .expiresOn(LocalDateTime.now().minusMinutes(1))
+                .build());
+        List<UUID> exerciseIds = List.of(UUID.randomUUID());
+
+        workoutSelectionStore.saveExercises(userId, exerciseIds);
+
+        assertEquals(exerciseIds, workoutSelectionStore.getExercises(userId));
+        assertNull(workoutSelectionStore.getSessionId(userId));
+    }
+}
@@ -0,0 +1,140 @@
+package app.notification;
+
+import app.notification.client.dto.NotificationRequest;
+import app.notification.service.NotificationBatcher;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "notifications.batch.size=5"
+})
+@ActiveProfiles("test")
+public class NotificationBatcherITest {
+
+    private static final HttpServer STUB = startStub();
+    private static final AtomicInteger BULK_STATUS = new AtomicInteger(201);
+    private static final AtomicInteger BULK_CALLS = new AtomicInteger();
+    private static final AtomicInteger SINGLE_CALLS = new AtomicInteger();
+
+    @Autowired
+    private NotificationBatcher notificationBatcher;
+
+    @DynamicPropertySource
+    static void notificationProperties(DynamicPropertyRegistry registry) {
+        registry.add("notifications.base-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/api/v1/notifications");
+    }
+
+    @BeforeEach
+    void resetStub() {
+        BULK_STATUS.set(201);
+        BULK_CALLS.set(0);
+        SINGLE_CALLS.set(0);
+        ReflectionTestUtils.setField(notificationBatcher, "bulkRetryAt", 0L);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void send_shouldUseOneRoundTripPerBatch() {
+        int delivered = notificationBatcher.send(requests(5));
+
+        assertEquals(5, delivered);
+        assertEquals(1, BULK_CALLS.get());
+        assertEquals(0, SINGLE_CALLS.get());
+    }
+
+    @Test
+    void send_shouldFallBackToSingleSendsWhenBulkEndpointIsMissing() {
+        BULK_STATUS.set(404);
+
+        int delivered = notificationBatcher.send(requests(3));
+        notificationBatcher.send(requests(2));
+
+        assertEquals(3, delivered);
+        assertEquals(1, BULK_CALLS.get());
+        assertEquals(5, SINGLE_CALLS.get());
+    }
+
+    @Test
+    void send_shouldSendOneByOneWhenBulkFailsOtherwise_andKeepUsingBulk() {
+        BULK_STATUS.set(503);
+
+        int delivered = notificationBatcher.send(requests(3));
+        BULK_STATUS.set(201);
+        notificationBatcher.send(requests(2));
+
+        assertEquals(3, delivered);
+        assertEquals(2, BULK_CALLS.get());
+        assertEquals(3, SINGLE_CALLS.get());
+    }
+
+    @Test
+    void send_shouldRetryBulkEndpointOnceTheBackoffHasPassed() {
+        BULK_STATUS.set(404);
+        notificationBatcher.send(requests(2));
+        BULK_STATUS.set(201);
+
+        // Stands in for notifications.batch.bulk-retry-ms having elapsed.
+        ReflectionTestUtils.setField(notificationBatcher, "bulkRetryAt", 0L);
+        int delivered = notificationBatcher.send(requests(3));
+
+        assertEquals(3, delivered);
+        assertEquals(2, BULK_CALLS.get());
+        assertEquals(2, SINGLE_CALLS.get());
+    }
+
+    private static List<NotificationRequest> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> NotificationRequest.builder()
+                        .userId(UUID.randomUUID())
+                        .subject("Workout Alert")
+                        .body("Time to hit the gym! Keep the streak going.")
+                        .build())
+                .toList();
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v1/notifications", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                int status;
+                if (exchange.getRequestURI().getPath().endsWith("/batch")) {
+                    BULK_CALLS.incrementAndGet();
+                    status = BULK_STATUS.get();
+                } else {
+                    SINGLE_CALLS.incrementAndGet();
+                    status = 201;
+                }
+                exchange.sendResponseHeaders(status, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
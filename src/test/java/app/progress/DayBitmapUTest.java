@@ -0,0 +1,50 @@
+package app.progress;
+
+import app.progress.model.DayBitmap;
+import app.progress.model.StreakSummary;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DayBitmapUTest {
+
+    @Test
+    void givenConsecutiveDays_whenTrailingRun_thenCountOnesEndingAtDay() {
+        DayBitmap bitmap = DayBitmap.empty();
+        for (int day : new int[]{20000, 20001, 20002, 20004, 20005}) {
+            bitmap.set(day);
+        }
+
+        assertThat(bitmap.trailingRun(20005)).isEqualTo(2);
+        assertThat(bitmap.trailingRun(20002)).isEqualTo(3);
+        assertThat(bitmap.trailingRun(20003)).isZero();
+        assertThat(bitmap.trailingRun(19000)).isZero();
+        assertThat(bitmap.longestRun()).isEqualTo(3);
+    }
+
+    @Test
+    void givenDayBeforeFirstDay_whenSet_thenBitmapIsRebased() {
+        DayBitmap bitmap = DayBitmap.empty();
+        bitmap.set(20010);
+        bitmap.set(20011);
+
+        bitmap.set(20009);
+
+        assertThat(bitmap.getFirstDay()).isEqualTo(20009);
+        assertThat(bitmap.isSet(20010)).isTrue();
+        assertThat(bitmap.trailingRun(20011)).isEqualTo(3);
+    }
+
+    @Test
+    void givenBitmap_whenSerialized_thenRoundTripsAndSummarizes() {
+        DayBitmap bitmap = DayBitmap.empty();
+        bitmap.set(20000);
+        bitmap.set(20001);
+        bitmap.set(20100);
+
+        DayBitmap restored = DayBitmap.fromBytes(bitmap.getFirstDay(), bitmap.toByteArray());
+
+        assertThat(restored.toSummary()).isEqualTo(new StreakSummary(2, 1, 20100));
+        assertThat(DayBitmap.empty().toSummary()).isEqualTo(StreakSummary.EMPTY);
+    }
+}
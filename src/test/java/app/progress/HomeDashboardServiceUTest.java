@@ -0,0 +1,132 @@
+package app.progress;
+
+import app.category.model.Category;
+import app.category.service.CategoryService;
+import app.exercise.model.Exercise;
+import app.exercise.service.ExerciseCatalog;
+import app.progress.model.ProgressEntry;
+import app.progress.model.StreakSummary;
+import app.progress.repository.ProgressRepository;
+import app.progress.service.HomeDashboardService;
+import app.progress.service.StreakService;
+import app.stats.repository.UserHistoryRollupRepository;
+import app.web.dto.HomeDashboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class HomeDashboardServiceUTest {
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private StreakService streakService;
+
+    @Mock
+    private UserHistoryRollupRepository rollupRepository;
+
+    @Mock
+    private ExerciseCatalog exerciseCatalog;
+
+    @InjectMocks
+    private HomeDashboardService homeDashboardService;
+
+    private UUID userId;
+    private Category legs;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        legs = Category.builder()
+                .name("Legs")
+                .build();
+    }
+
+    @Test
+    void givenNoHistory_whenGetDashboard_thenReturnDefaults() {
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of());
+        when(categoryService.getNextMuscleGroup(Map.of())).thenReturn(legs);
+        when(exerciseCatalog.getExercisesByCategory("Legs"))
+                .thenReturn(List.of(new Exercise(), new Exercise(), new Exercise(), new Exercise()));
+        when(streakService.getSummary(userId)).thenReturn(StreakSummary.EMPTY);
+
+        HomeDashboard dashboard = homeDashboardService.getDashboard(userId);
+
+        assertThat(dashboard.getStreak()).isZero();
+        assertThat(dashboard.getTotalWorkouts()).isZero();
+        assertThat(dashboard.getLastMuscleGroup()).isEqualTo("N/A");
+        assertThat(dashboard.getLastWorkoutDate()).isEqualTo("N/A");
+        assertThat(dashboard.getLastWorkoutExercises()).containsExactly("No recent workouts");
+        assertThat(dashboard.getNextMuscleGroup()).isEqualTo(legs);
+        assertThat(dashboard.getSuggestedExercises()).hasSize(3);
+    }
+
+    @Test
+    void givenHistory_whenGetDashboard_thenComputeEveryFigureFromOneQuery() {
+        UUID lastWorkout = UUID.randomUUID();
+        UUID previousWorkout = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ProgressEntry> entries = List.of(
+                entry(lastWorkout, now, "Pull-Up", "Back"),
+                entry(lastWorkout, now.minusMinutes(5), "Barbell Row", "Back"),
+                entry(previousWorkout, now.minusDays(1), "Bench Press", "Chest")
+        );
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(entries);
+        when(categoryService.getNextMuscleGroup(anyMap())).thenReturn(legs);
+        when(streakService.getSummary(userId)).thenReturn(StreakSummary.EMPTY
+                .extend(now.toLocalDate().minusDays(1))
+                .extend(now.toLocalDate()));
+
+        HomeDashboard dashboard = homeDashboardService.getDashboard(userId);
+
+        assertThat(dashboard.getStreak()).isEqualTo(2);
+        assertThat(dashboard.getTotalWorkouts()).isEqualTo(2);
+        assertThat(dashboard.getLastMuscleGroup()).isEqualTo("Back");
+        assertThat(dashboard.getLastWorkoutDate()).isEqualTo(now.toLocalDate().toString());
+        assertThat(dashboard.getLastWorkoutExercises()).containsExactly("Pull-Up", "Barbell Row");
+        verify(progressRepository, times(1)).findEntriesByUserId(userId);
+        verify(categoryService).getNextMuscleGroup(Map.of("Back", now, "Chest", now.minusDays(1)));
+    }
+
+    private static ProgressEntry entry(UUID workoutId, LocalDateTime timestamp, String exerciseName, String categoryName) {
+        return new ProgressEntry() {
+            @Override
+            public UUID getWorkoutId() {
+                return workoutId;
+            }
+
+            @Override
+            public LocalDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public String getExerciseName() {
+                return exerciseName;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return categoryName;
+            }
+        };
+    }
+}
@@ -1,14 +1,18 @@
 package app.progress;
 
 import app.exercise.model.Exercise;
-import app.exercise.repository.ExerciseRepository;
 import app.progress.model.Progress;
 import app.progress.repository.ProgressRepository;
+import app.progress.model.StreakSummary;
+import app.progress.model.WorkoutProgressRow;
 import app.progress.service.ProgressService;
+import app.progress.service.StreakService;
+import app.stats.repository.UserHistoryRollupRepository;
 import app.user.model.User;
-import app.user.repository.UserRepository;
+import app.web.dto.ProgressExercise;
+import app.web.dto.ProgressHistoryPage;
+import app.web.dto.WorkoutProgress;
 import app.workout.model.Workout;
-import app.workout.repository.WorkoutRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,13 +21,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,20 +38,16 @@ public class ProgressServiceUTest {
     private ProgressRepository progressRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private StreakService streakService;
 
     @Mock
-    private ExerciseRepository exerciseRepository;
-
-    @Mock
-    private WorkoutRepository workoutRepository;
+    private UserHistoryRollupRepository rollupRepository;
 
     @InjectMocks
     private ProgressService progressService;
 
     private UUID userId;
     private UUID workoutId;
-    private UUID exerciseId;
     private User user;
     private Workout workout;
     private Exercise exercise;
@@ -56,7 +57,6 @@ public class ProgressServiceUTest {
     void setUp() {
         userId = UUID.randomUUID();
         workoutId = UUID.randomUUID();
-        exerciseId = UUID.randomUUID();
         user = new User();
         workout = new Workout();
         workout.setId(workoutId);
@@ -73,33 +73,28 @@ public class ProgressServiceUTest {
     }
 
     @Test
-    void saveWorkoutCompletion_ShouldSaveProgress_WhenWorkoutExists() {
-        when(workoutRepository.findById(workoutId)).thenReturn(Optional.of(workout));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(exerciseRepository.findById(exerciseId)).thenReturn(Optional.of(exercise));
-
-        progressService.saveWorkoutCompletion(userId, workoutId, exerciseId);
+    void calculateWorkoutStreak_ShouldReturnStreakCount() {
+        int today = (int) LocalDate.now().toEpochDay();
+        when(streakService.getSummary(userId)).thenReturn(new StreakSummary(5, 2, today));
 
-        verify(progressRepository, times(1)).save(any(Progress.class));
+        long streak = progressService.calculateWorkoutStreak(userId);
+        assertThat(streak).isEqualTo(2);
     }
 
     @Test
-    void saveWorkoutCompletion_ShouldThrowException_WhenWorkoutNotFound() {
-        when(workoutRepository.findById(workoutId)).thenReturn(Optional.empty());
+    void calculateWorkoutStreak_ShouldReturnZero_WhenNoWorkoutToday() {
+        int yesterday = (int) LocalDate.now().minusDays(1).toEpochDay();
+        when(streakService.getSummary(userId)).thenReturn(new StreakSummary(5, 2, yesterday));
 
-        assertThrows(IllegalArgumentException.class, () -> progressService.saveWorkoutCompletion(userId, workoutId, exerciseId));
+        assertThat(progressService.calculateWorkoutStreak(userId)).isZero();
     }
 
     @Test
-    void calculateWorkoutStreak_ShouldReturnStreakCount() {
-        List<Progress> progresses = List.of(
-                Progress.builder().timestamp(LocalDateTime.now()).build(),
-                Progress.builder().timestamp(LocalDateTime.now().minusDays(1)).build()
-        );
-        when(progressRepository.findRecentProgressByUser(eq(userId), any(PageRequest.class))).thenReturn(progresses);
+    void calculateLongestStreak_ShouldUseCachedStreakSummary() {
+        when(streakService.getSummary(userId)).thenReturn(new StreakSummary(4, 1, 20000));
 
-        long streak = progressService.calculateWorkoutStreak(userId);
-        assertThat(streak).isEqualTo(2);
+        assertThat(progressService.calculateLongestStreak(userId)).isEqualTo(4);
+        verifyNoInteractions(progressRepository);
     }
 
     @Test
@@ -111,23 +106,123 @@ public class ProgressServiceUTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    void getProgressHistory_ShouldGroupConsecutiveRowsByWorkoutAndReturnTheLastRowAsCursor() {
+        UUID newer = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        WorkoutProgressRow last = row(older, "Pull", now.minusDays(2), null, null);
+        when(progressRepository.findHistoryByUserId(userId, PageRequest.of(0, 5))).thenReturn(List.of(
+                row(newer, "Push", now, "Bench press", "Chest"),
+                row(newer, "Push", now.minusMinutes(5), "Dips", "Chest"),
+                row(older, "Pull", now.minusDays(2), "Row", "Back"),
+                last,
+                row(UUID.randomUUID(), "Legs", now.minusDays(3), "Squat", "Legs")
+        ));
+
+        ProgressHistoryPage result = progressService.getProgressHistory(userId, null, 4);
+
+        assertThat(result.getWorkouts()).extracting(WorkoutProgress::getWorkoutId).containsExactly(newer, older);
+        WorkoutProgress first = result.getWorkouts().get(0);
+        assertThat(first.getWorkoutName()).isEqualTo("Push");
+        assertThat(first.getLatestTimestamp()).isEqualTo(now);
+        assertThat(first.getExercises()).containsExactly(
+                new ProgressExercise("Bench press", "Chest"), new ProgressExercise("Dips", "Chest"));
+        assertThat(result.getWorkouts().get(1).getExercises()).containsExactly(new ProgressExercise("Row", "Back"));
+        assertThat(result.getNextCursor()).isEqualTo(last.getTimestamp() + "_" + last.getId());
+    }
+
+    @Test
+    void getProgressHistory_ShouldContinueAfterTheCursorAndStopOnAShortPage() {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 5, 1, 18, 30, 15, 123000);
+        UUID lastId = UUID.randomUUID();
+        when(progressRepository.findHistoryByUserIdBefore(userId, timestamp, lastId, PageRequest.of(0, 5)))
+                .thenReturn(List.of(row(UUID.randomUUID(), "Legs", timestamp.minusDays(1), "Squat", "Legs")));
+
+        ProgressHistoryPage result = progressService.getProgressHistory(userId, timestamp + "_" + lastId, 4);
+
+        assertThat(result.getWorkouts()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+        verify(progressRepository, never()).findHistoryByUserId(any(), any());
+    }
+
+    @Test
+    void getProgressHistory_ShouldLeaveAWorkoutCutByThePageForTheNextPage() {
+        UUID whole = UUID.randomUUID();
+        UUID cut = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        WorkoutProgressRow lastOfWhole = row(whole, "Push", now, "Dips", "Chest");
+        when(progressRepository.findHistoryByUserId(userId, PageRequest.of(0, 3))).thenReturn(List.of(
+                row(whole, "Push", now, "Bench press", "Chest"),
+                lastOfWhole,
+                row(cut, "Pull", now.minusDays(1), "Row", "Back")
+        ));
+
+        ProgressHistoryPage result = progressService.getProgressHistory(userId, null, 2);
+
+        assertThat(result.getWorkouts()).extracting(WorkoutProgress::getWorkoutId).containsExactly(whole);
+        assertThat(result.getNextCursor()).isEqualTo(lastOfWhole.getTimestamp() + "_" + lastOfWhole.getId());
+    }
+
+    @Test
+    void getProgressHistory_ShouldReadAWorkoutLongerThanThePageToItsEnd() {
+        UUID longWorkout = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        WorkoutProgressRow third = row(longWorkout, "Full body", now, "Row", "Back");
+        WorkoutProgressRow fourth = row(longWorkout, "Full body", now, "Squat", "Legs");
+        when(progressRepository.findHistoryByUserId(userId, PageRequest.of(0, 3))).thenReturn(List.of(
+                row(longWorkout, "Full body", now, "Bench press", "Chest"),
+                row(longWorkout, "Full body", now, "Dips", "Chest"),
+                third
+        ));
+        when(progressRepository.findHistoryByUserIdBefore(userId, now, third.getId(), PageRequest.of(0, 3)))
+                .thenReturn(List.of(fourth, row(UUID.randomUUID(), "Legs", now.minusDays(1), "Lunge", "Legs")));
+
+        ProgressHistoryPage result = progressService.getProgressHistory(userId, null, 2);
+
+        assertThat(result.getWorkouts()).hasSize(1);
+        assertThat(result.getWorkouts().get(0).getExercises()).hasSize(4);
+        assertThat(result.getNextCursor()).isEqualTo(fourth.getTimestamp() + "_" + fourth.getId());
+    }
+
+    @Test
+    void getProgressHistory_ShouldRejectAMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> progressService.getProgressHistory(userId, "yesterday", 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> progressService.getProgressHistory(userId, "2024-05-01T18:30_not-a-uuid", 4));
+    }
+
     @Test
     void getTotalWorkouts_ShouldReturnCorrectCount() {
-        List<Progress> progresses = List.of(progress, progress);
-        when(progressRepository.findByUserId(userId)).thenReturn(progresses);
+        when(progressRepository.countDistinctWorkoutsByUserId(userId)).thenReturn(1L);
 
         int totalWorkouts = progressService.getTotalWorkouts(userId);
-        assertThat(totalWorkouts).isEqualTo(1); // Workouts are distinct
+        assertThat(totalWorkouts).isEqualTo(1);
     }
 
     @Test
     void getLastWorkoutDate_ShouldReturnLastWorkoutDate() {
-        when(progressRepository.findByUserId(userId)).thenReturn(List.of(progress));
+        when(progressRepository.findLastTimestampByUserId(userId)).thenReturn(progress.getTimestamp());
 
         String result = progressService.getLastWorkoutDate(userId);
         assertThat(result).isEqualTo(progress.getTimestamp().toLocalDate().toString());
     }
 
+    @Test
+    void getLastWorkoutDate_ShouldReturnNA_WhenNoProgress() {
+        when(progressRepository.findLastTimestampByUserId(userId)).thenReturn(null);
+
+        assertThat(progressService.getLastWorkoutDate(userId)).isEqualTo("N/A");
+    }
+
+    @Test
+    void getLastWorkoutMuscleGroup_ShouldReturnLatestCategoryName() {
+        when(progressRepository.findRecentCategoryNamesByUserId(userId, PageRequest.of(0, 1)))
+                .thenReturn(List.of("Back"));
+
+        assertThat(progressService.getLastWorkoutMuscleGroup(userId)).isEqualTo("Back");
+    }
+
     @Test
     void getLastWorkoutExercises_ShouldReturnListOfExercises() {
         workout.setId(UUID.randomUUID());
@@ -141,7 +236,7 @@ public class ProgressServiceUTest {
 
     @Test
     void getMonthlyWorkoutCount_ShouldReturnCorrectCount() {
-        when(progressRepository.findByUserId(userId)).thenReturn(List.of(progress));
+        when(progressRepository.countDistinctWorkoutsByUserIdSince(eq(userId), any(LocalDateTime.class))).thenReturn(1L);
 
         int count = progressService.getMonthlyWorkoutCount(userId);
         assertThat(count).isGreaterThanOrEqualTo(1);
@@ -149,23 +244,7 @@ public class ProgressServiceUTest {
 
     @Test
     void getSetsDoneThisWeek_ShouldReturnCorrectSetCount() {
-        // Given
-        Workout workout = new Workout();
-        workout.setId(UUID.randomUUID());
-        Exercise exercise1 = new Exercise();
-        exercise1.setId(UUID.randomUUID());
-        Exercise exercise2 = new Exercise();
-        exercise2.setId(UUID.randomUUID());
-
-        workout.setExercises(List.of(exercise1, exercise2));
-
-        Progress progress = Progress.builder()
-                .user(user)
-                .workout(workout)
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        when(progressRepository.findByUserId(userId)).thenReturn(List.of(progress));
+        when(progressRepository.countWorkoutExercisesSince(eq(userId), any(LocalDateTime.class))).thenReturn(2L);
 
         // When
         int sets = progressService.getSetsDoneThisWeek(userId);
@@ -173,4 +252,40 @@ public class ProgressServiceUTest {
         // Then
         assertThat(sets).isEqualTo(2);
     }
+
+    private static WorkoutProgressRow row(UUID workoutId, String workoutName, LocalDateTime timestamp,
+                                          String exerciseName, String categoryName) {
+        UUID id = UUID.randomUUID();
+        return new WorkoutProgressRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getWorkoutId() {
+                return workoutId;
+            }
+
+            @Override
+            public String getWorkoutName() {
+                return workoutName;
+            }
+
+            @Override
+            public LocalDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public String getExerciseName() {
+                return exerciseName;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return categoryName;
+            }
+        };
+    }
 }
@@ -0,0 +1,195 @@
+package app.progress;
+
+import app.progress.model.DayBitmap;
+import app.progress.model.StreakSummary;
+import app.progress.model.UserActivity;
+import app.progress.model.UserWorkoutDay;
+import app.progress.repository.ProgressRepository;
+import app.progress.repository.UserActivityRepository;
+import app.progress.service.StreakService;
+import app.stats.repository.UserHistoryRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreakServiceUTest {
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private UserActivityRepository userActivityRepository;
+
+    @Mock
+    private UserHistoryRollupRepository rollupRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private StreakService streakService;
+
+    private UUID userId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        today = LocalDate.of(2025, 3, 10);
+    }
+
+    @Test
+    void recordWorkoutDay_shouldSetTheDayOnTheLockedRow() {
+        // Given
+        when(userActivityRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(activity(today.minusDays(1))));
+
+        // When
+        streakService.recordWorkoutDay(userId, today);
+
+        // Then
+        ArgumentCaptor<UserActivity> saved = ArgumentCaptor.forClass(UserActivity.class);
+        verify(userActivityRepository).save(saved.capture());
+        DayBitmap bitmap = DayBitmap.fromBytes(saved.getValue().getFirstDay(), saved.getValue().getDays());
+        assertThat(bitmap.trailingRun((int) today.toEpochDay())).isEqualTo(2);
+        verify(userActivityRepository, never()).findById(any());
+    }
+
+    @Test
+    void recordWorkoutDay_whenDayIsAlreadySet_shouldNotRewriteTheBitmap() {
+        // Given
+        when(userActivityRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(activity(today)));
+
+        // When
+        streakService.recordWorkoutDay(userId, today);
+
+        // Then
+        verify(userActivityRepository, never()).save(any());
+    }
+
+    @Test
+    void recordWorkoutDay_shouldExtendCachedSummaryOnlyAfterCommit() {
+        // Given
+        Cache cache = new ConcurrentMapCache(StreakService.STREAKS_CACHE);
+        int yesterday = (int) today.minusDays(1).toEpochDay();
+        cache.put(userId, new StreakSummary(1, 1, yesterday));
+        when(cacheManager.getCache(StreakService.STREAKS_CACHE)).thenReturn(cache);
+        when(userActivityRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(activity(today.minusDays(1))));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            streakService.recordWorkoutDay(userId, today);
+
+            // Then
+            assertThat(cache.get(userId, StreakSummary.class).getCurrent()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(cache.get(userId, StreakSummary.class).getCurrent()).isEqualTo(2);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void recordWorkoutDay_whenUserHasNoBitmap_shouldInsertItIfAbsentAndThenLockIt() {
+        // Given
+        when(userActivityRepository.findByIdForUpdate(userId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(activity(today.minusDays(1))));
+        when(progressRepository.findDistinctWorkoutDaysByUserId(userId)).thenReturn(List.of(today.minusDays(1)));
+
+        // When
+        streakService.recordWorkoutDay(userId, today);
+
+        // Then
+        verify(userActivityRepository).insertIfAbsent(eq(userId), anyInt(), any());
+        ArgumentCaptor<UserActivity> saved = ArgumentCaptor.forClass(UserActivity.class);
+        verify(userActivityRepository).save(saved.capture());
+        DayBitmap bitmap = DayBitmap.fromBytes(saved.getValue().getFirstDay(), saved.getValue().getDays());
+        assertThat(bitmap.trailingRun((int) today.toEpochDay())).isEqualTo(2);
+    }
+
+    @Test
+    void getSummary_whenUserHasNoBitmap_shouldBuildItWithoutSaving() {
+        // Given
+        when(userActivityRepository.findById(userId)).thenReturn(Optional.empty());
+        when(progressRepository.findDistinctWorkoutDaysByUserId(userId)).thenReturn(List.of(today));
+
+        // When
+        StreakSummary summary = streakService.getSummary(userId);
+
+        // Then
+        assertThat(summary.getLongest()).isEqualTo(1);
+        verify(userActivityRepository, never()).save(any());
+        verify(userActivityRepository, never()).insertIfAbsent(any(), anyInt(), any());
+    }
+
+    @Test
+    void getCurrentStreaks_shouldBuildMissingBitmapsForTheWholeBatchAtOnce() {
+        // Given
+        UUID withoutActivity = UUID.randomUUID();
+        UUID withoutHistory = UUID.randomUUID();
+        List<UUID> userIds = List.of(userId, withoutActivity, withoutHistory);
+        when(userActivityRepository.findAllById(userIds)).thenReturn(List.of(activity(today.minusDays(1), today)));
+        when(progressRepository.findDistinctWorkoutDaysByUserIdIn(List.of(withoutActivity, withoutHistory)))
+                .thenReturn(List.of(workoutDay(withoutActivity, today.minusDays(2)),
+                        workoutDay(withoutActivity, today.minusDays(1)),
+                        workoutDay(withoutActivity, today)));
+
+        // When
+        Map<UUID, Long> streaks = streakService.getCurrentStreaks(userIds, today);
+
+        // Then
+        assertThat(streaks).containsEntry(userId, 2L).containsEntry(withoutActivity, 3L).containsEntry(withoutHistory, 0L);
+        verify(rollupRepository).findAllById(List.of(withoutActivity, withoutHistory));
+        verify(progressRepository, never()).findDistinctWorkoutDaysByUserId(any());
+        verify(userActivityRepository, never()).save(any());
+    }
+
+    private static UserWorkoutDay workoutDay(UUID userId, LocalDate day) {
+        return new UserWorkoutDay() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LocalDate getWorkoutDay() {
+                return day;
+            }
+        };
+    }
+
+    private UserActivity activity(LocalDate... days) {
+        DayBitmap bitmap = DayBitmap.empty();
+        for (LocalDate day : days) {
+            bitmap.set(day);
+        }
+        return UserActivity.builder()
+                .userId(userId)
+                .firstDay(bitmap.getFirstDay())
+                .days(bitmap.toByteArray())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package app.progress;
+
+import app.progress.model.StreakSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreakSummaryUTest {
+
+    @Test
+    void givenNoDays_whenScan_thenReturnEmptySummary() {
+        StreakSummary summary = StreakSummary.of(new int[0]);
+
+        assertThat(summary.isEmpty()).isTrue();
+        assertThat(summary.getLongest()).isZero();
+        assertThat(summary.getLastDate()).isNull();
+    }
+
+    @Test
+    void givenSortedDays_whenScan_thenTrackLongestAndCurrentRun() {
+        StreakSummary summary = StreakSummary.of(new int[]{100, 101, 102, 104, 105});
+
+        assertThat(summary.getLongest()).isEqualTo(3);
+        assertThat(summary.getCurrent()).isEqualTo(2);
+        assertThat(summary.getLastDay()).isEqualTo(105);
+    }
+
+    @Test
+    void givenSummary_whenExtendWithNextDay_thenRunGrowsAndMayBecomeLongest() {
+        StreakSummary summary = StreakSummary.of(new int[]{100, 101, 102, 104, 105});
+
+        StreakSummary extended = summary.extend(106).extend(107);
+
+        assertThat(extended.getCurrent()).isEqualTo(4);
+        assertThat(extended.getLongest()).isEqualTo(4);
+    }
+
+    @Test
+    void givenSummary_whenExtendWithSameOrOlderDay_thenUnchanged() {
+        StreakSummary summary = StreakSummary.of(new int[]{100, 101});
+
+        assertThat(summary.extend(101)).isEqualTo(summary);
+        assertThat(summary.extend(50)).isEqualTo(summary);
+    }
+
+    @Test
+    void givenSummary_whenExtendAfterGap_thenRunRestarts() {
+        LocalDate today = LocalDate.now();
+        StreakSummary summary = StreakSummary.EMPTY.extend(today.minusDays(3)).extend(today.minusDays(2));
+
+        StreakSummary extended = summary.extend(today);
+
+        assertThat(extended.getCurrent()).isEqualTo(1);
+        assertThat(extended.getLongest()).isEqualTo(2);
+        assertThat(extended.getLastDate()).isEqualTo(today);
+    }
+}
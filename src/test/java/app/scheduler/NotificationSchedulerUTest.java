@@ -0,0 +1,129 @@
+package app.scheduler;
+
+import app.notification.client.dto.NotificationRequest;
+import app.notification.service.NotificationBatcher;
+import app.notification.service.NotificationService;
+import app.progress.service.StreakService;
+import app.user.model.UserIdProjection;
+import app.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationSchedulerUTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationBatcher notificationBatcher;
+
+    @Mock
+    private StreakService streakService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationScheduler notificationScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationScheduler = new NotificationScheduler(userService, notificationService, notificationBatcher, streakService, meterRegistry);
+        ReflectionTestUtils.setField(notificationScheduler, "chunkSize", 2);
+        ReflectionTestUtils.setField(notificationScheduler, "concurrency", 2);
+    }
+
+    @Test
+    void dailyWorkoutNotifications_ShouldSendActiveUsersInBatchesAndRecordMetrics() {
+        UserIdProjection first = user(true);
+        UserIdProjection second = user(true);
+        UserIdProjection inactive = user(false);
+        UserIdProjection third = user(true);
+
+        when(userService.getUserChunk(null, 2)).thenReturn(List.of(first, second));
+        when(userService.getUserChunk(second.getId(), 2)).thenReturn(List.of(inactive, third));
+        when(userService.getUserChunk(third.getId(), 2)).thenReturn(List.of());
+        when(streakService.getCurrentStreaks(anyCollection(), eq(LocalDate.now())))
+                .thenReturn(Map.of(first.getId(), 3L, second.getId(), 0L))
+                .thenReturn(Map.of(third.getId(), 1L));
+        when(notificationService.buildWorkoutNotification(any(UUID.class), anyLong()))
+                .thenAnswer(invocation -> NotificationRequest.builder().userId(invocation.getArgument(0)).build());
+        when(notificationBatcher.getBatchSize()).thenReturn(1);
+        when(notificationBatcher.send(anyList()))
+                .thenAnswer(invocation -> {
+                    List<NotificationRequest> batch = invocation.getArgument(0);
+                    return batch.get(0).getUserId().equals(second.getId()) ? 0 : 1;
+                });
+
+        notificationScheduler.dailyWorkoutNotifications();
+
+        verify(streakService, times(2)).getCurrentStreaks(anyCollection(), any(LocalDate.class));
+        verify(notificationService).buildWorkoutNotification(first.getId(), 3L);
+        verify(notificationService).buildWorkoutNotification(third.getId(), 1L);
+        verify(notificationService, never()).buildWorkoutNotification(eq(inactive.getId()), anyLong());
+        verify(notificationBatcher, times(3)).send(anyList());
+        assertThat(meterRegistry.counter("notifications.daily.sent").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notifications.daily.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("notifications.daily.duration").count()).isEqualTo(1);
+    }
+
+    @Test
+    void dailyWorkoutNotifications_ShouldStopLoadingChunksOnceInterrupted() {
+        UserIdProjection first = user(true);
+        UserIdProjection second = user(true);
+
+        when(userService.getUserChunk(null, 2)).thenReturn(List.of(first, second));
+        when(streakService.getCurrentStreaks(anyCollection(), any(LocalDate.class))).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        });
+        when(notificationService.buildWorkoutNotification(any(UUID.class), anyLong()))
+                .thenAnswer(invocation -> NotificationRequest.builder().userId(invocation.getArgument(0)).build());
+        when(notificationBatcher.getBatchSize()).thenReturn(2);
+
+        try {
+            notificationScheduler.dailyWorkoutNotifications();
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(userService, times(1)).getUserChunk(any(), anyInt());
+        assertThat(meterRegistry.timer("notifications.daily.duration").count()).isEqualTo(1);
+    }
+
+    private static UserIdProjection user(boolean active) {
+        UUID id = UUID.randomUUID();
+        return new UserIdProjection() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return id + "@example.com";
+            }
+
+            @Override
+            public boolean isActive() {
+                return active;
+            }
+        };
+    }
+}
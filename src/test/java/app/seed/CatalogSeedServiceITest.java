@@ -0,0 +1,38 @@
+package app.seed;
+
+import app.exercise.service.ExerciseCatalog;
+import app.seed.repository.SeedMetadataRepository;
+import app.seed.service.CatalogSeedService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CatalogSeedServiceITest {
+
+    @Autowired
+    private CatalogSeedService catalogSeedService;
+
+    @Autowired
+    private SeedMetadataRepository seedMetadataRepository;
+
+    @Autowired
+    private ExerciseCatalog exerciseCatalog;
+
+    @Test
+    void startup_shouldSeedCatalogAndRecordVersion() {
+        assertEquals(CatalogSeedService.CATALOG_VERSION,
+                seedMetadataRepository.findById(CatalogSeedService.CATALOG_SEED).orElseThrow().getVersion());
+        assertTrue(exerciseCatalog.findCategory("Legs").isPresent());
+        assertFalse(exerciseCatalog.getExercisesByCategory("Legs").isEmpty());
+    }
+
+    @Test
+    void seed_whenAlreadyApplied_shouldBeSkipped() {
+        assertFalse(catalogSeedService.seed());
+    }
+}
@@ -0,0 +1,112 @@
+package app.seed;
+
+import app.category.model.Category;
+import app.category.repository.CategoryRepository;
+import app.exercise.model.Exercise;
+import app.exercise.repository.ExerciseRepository;
+import app.seed.model.SeedMetadata;
+import app.seed.repository.SeedMetadataRepository;
+import app.seed.service.CatalogSeedService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSeedServiceUTest {
+
+    @Mock
+    private SeedMetadataRepository seedMetadataRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @InjectMocks
+    private CatalogSeedService catalogSeedService;
+
+    @Test
+    void seed_whenVersionIsCurrent_shouldNotTouchTheCatalog() {
+        // Given
+        when(seedMetadataRepository.findById(CatalogSeedService.CATALOG_SEED)).thenReturn(Optional.of(
+                SeedMetadata.builder()
+                        .name(CatalogSeedService.CATALOG_SEED)
+                        .version(CatalogSeedService.CATALOG_VERSION)
+                        .appliedOn(LocalDateTime.now())
+                        .build()));
+
+        // When
+        boolean applied = catalogSeedService.seed();
+
+        // Then
+        assertThat(applied).isFalse();
+        verifyNoInteractions(categoryRepository, exerciseRepository);
+        verify(seedMetadataRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seed_onEmptyDatabase_shouldInsertEverythingAndRecordVersion() {
+        // Given
+        when(seedMetadataRepository.findById(CatalogSeedService.CATALOG_SEED)).thenReturn(Optional.empty());
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(exerciseRepository.findAllWithCategory()).thenReturn(List.of());
+
+        // When
+        boolean applied = catalogSeedService.seed();
+
+        // Then
+        assertThat(applied).isTrue();
+        ArgumentCaptor<List<Category>> categories = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Exercise>> exercises = ArgumentCaptor.forClass(List.class);
+        verify(categoryRepository).saveAll(categories.capture());
+        verify(exerciseRepository).saveAll(exercises.capture());
+        assertThat(categories.getValue()).extracting(Category::getName)
+                .containsExactly("Chest", "Back", "Legs", "Shoulders", "Arms", "Abdomen");
+        assertThat(exercises.getValue()).hasSize(60);
+        assertThat(exercises.getValue()).allSatisfy(exercise -> assertThat(exercise.getCategory()).isNotNull());
+
+        ArgumentCaptor<SeedMetadata> metadata = ArgumentCaptor.forClass(SeedMetadata.class);
+        verify(seedMetadataRepository).save(metadata.capture());
+        assertThat(metadata.getValue().getName()).isEqualTo(CatalogSeedService.CATALOG_SEED);
+        assertThat(metadata.getValue().getVersion()).isEqualTo(CatalogSeedService.CATALOG_VERSION);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seed_onDatabaseWithoutMetadata_shouldInsertOnlyMissingRows() {
+        // Given
+        Category chest = Category.builder().name("Chest").imageUrl("/images/chest.jpg").build();
+        Exercise benchPress = Exercise.builder().name("Bench Press").category(chest).build();
+        when(seedMetadataRepository.findById(CatalogSeedService.CATALOG_SEED)).thenReturn(Optional.empty());
+        when(categoryRepository.findAll()).thenReturn(List.of(chest));
+        when(exerciseRepository.findAllWithCategory()).thenReturn(List.of(benchPress));
+
+        // When
+        catalogSeedService.seed();
+
+        // Then
+        ArgumentCaptor<List<Category>> categories = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Exercise>> exercises = ArgumentCaptor.forClass(List.class);
+        verify(categoryRepository).saveAll(categories.capture());
+        verify(exerciseRepository).saveAll(exercises.capture());
+        assertThat(categories.getValue()).extracting(Category::getName).doesNotContain("Chest").hasSize(5);
+        assertThat(exercises.getValue()).hasSize(59);
+        assertThat(exercises.getValue()).extracting(Exercise::getName).doesNotContain("Bench Press");
+        assertThat(exercises.getValue())
+                .filteredOn(exercise -> exercise.getCategory().getName().equals("Chest"))
+                .allSatisfy(exercise -> assertThat(exercise.getCategory()).isSameAs(chest));
+    }
+}
@@ -0,0 +1,272 @@
+package app.stats;
+
+import app.exception.UserNotFoundException;
+import app.progress.model.ProgressEntry;
+import app.progress.repository.ProgressRepository;
+import app.stats.model.UserHistoryRollup;
+import app.stats.model.UserStats;
+import app.stats.repository.UserHistoryRollupRepository;
+import app.stats.repository.UserStatsRepository;
+import app.stats.service.UserStatsService;
+import app.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserStatsServiceUTest {
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private UserHistoryRollupRepository rollupRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserStatsService userStatsService;
+
+    private UUID userId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        today = LocalDate.now();
+    }
+
+    @Test
+    void recordCompletions_ShouldExtendStreakOnConsecutiveDay() {
+        UserStats stats = currentStats()
+                .totalWorkouts(4)
+                .currentStreak(2)
+                .longestStreak(2)
+                .lastWorkoutDate(today.minusDays(1))
+                .build();
+        when(userStatsRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(stats));
+
+        userStatsService.recordCompletions(userId, 1, 2, "Legs", today.atTime(10, 0), true);
+
+        assertThat(stats.getTotalWorkouts()).isEqualTo(5);
+        assertThat(stats.getCurrentStreak()).isEqualTo(3);
+        assertThat(stats.getLongestStreak()).isEqualTo(3);
+        assertThat(stats.getLastWorkoutDate()).isEqualTo(today);
+        assertThat(stats.getLastMuscleGroup()).isEqualTo("Legs");
+        assertThat(stats.getWeeklySets()).isEqualTo(2);
+        verify(userStatsRepository).save(stats);
+        verifyNoInteractions(progressRepository);
+    }
+
+    @Test
+    void recordCompletions_ShouldNotCountSameWorkoutOrDayTwice() {
+        UserStats stats = currentStats()
+                .totalWorkouts(1)
+                .monthlyWorkouts(1)
+                .currentStreak(1)
+                .longestStreak(1)
+                .lastWorkoutDate(today)
+                .build();
+        when(userStatsRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(stats));
+
+        userStatsService.recordCompletions(userId, 1, 2, "Legs", today.atTime(11, 0), false);
+
+        assertThat(stats.getTotalWorkouts()).isEqualTo(1);
+        assertThat(stats.getMonthlyWorkouts()).isEqualTo(1);
+        assertThat(stats.getCurrentStreak()).isEqualTo(1);
+    }
+
+    @Test
+    void recordCompletions_ShouldInsertStatsComputedFromHistoryWhenNoRowExists() {
+        when(userStatsRepository.findByIdForUpdate(userId)).thenReturn(Optional.empty());
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of(
+                entry(UUID.randomUUID(), LocalDateTime.now(), "Legs")));
+        when(userStatsRepository.insertIfAbsent(any(UserStats.class))).thenReturn(1);
+
+        userStatsService.recordCompletions(userId, 2, 2, "Legs", LocalDateTime.now(), true);
+
+        ArgumentCaptor<UserStats> captor = ArgumentCaptor.forClass(UserStats.class);
+        verify(userStatsRepository).insertIfAbsent(captor.capture());
+        assertThat(captor.getValue().getTotalWorkouts()).isEqualTo(1);
+        verify(userStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void recordCompletions_ShouldApplyOnTopWhenAConcurrentFirstCompletionInsertedTheRow() {
+        UserStats inserted = currentStats().totalWorkouts(1).monthlyWorkouts(1).build();
+        when(userStatsRepository.findByIdForUpdate(userId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(inserted));
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of());
+        when(userStatsRepository.insertIfAbsent(any(UserStats.class))).thenReturn(0);
+
+        userStatsService.recordCompletions(userId, 2, 2, "Legs", LocalDateTime.now(), true);
+
+        assertThat(inserted.getTotalWorkouts()).isEqualTo(2);
+        verify(userStatsRepository).save(inserted);
+    }
+
+    @Test
+    void rebuild_ShouldComputeStatsFromHistory() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of(
+                entry(first, now, "Back"),
+                entry(first, now.minusMinutes(10), "Back"),
+                entry(second, now.minusDays(1), "Chest"),
+                entry(third, now.minusDays(5), "Legs")
+        ));
+        when(progressRepository.countWorkoutExercisesSince(eq(userId), any(LocalDateTime.class))).thenReturn(7L);
+        when(userStatsRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(currentStats().build()));
+        when(userStatsRepository.save(any(UserStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userStatsService.rebuild(userId);
+
+        ArgumentCaptor<UserStats> captor = ArgumentCaptor.forClass(UserStats.class);
+        verify(userStatsRepository).save(captor.capture());
+        UserStats stats = captor.getValue();
+        assertThat(stats.getTotalWorkouts()).isEqualTo(3);
+        assertThat(stats.getCurrentStreak()).isEqualTo(2);
+        assertThat(stats.getLongestStreak()).isEqualTo(2);
+        assertThat(stats.getLastWorkoutDate()).isEqualTo(now.toLocalDate());
+        assertThat(stats.getLastMuscleGroup()).isEqualTo("Back");
+        assertThat(stats.getWeeklySets()).isEqualTo(7);
+    }
+
+    @Test
+    void rebuild_ShouldAddArchivedHistoryToTheHotProgress() {
+        LocalDateTime now = LocalDateTime.now();
+        UserHistoryRollup rollup = UserHistoryRollup.empty(userId);
+        rollup.add(now.minusDays(40), "Legs", List.of(now.minusDays(41).toLocalDate(), now.minusDays(40).toLocalDate()));
+        rollup.add(now.minusDays(39), "Arms", List.of(now.minusDays(39).toLocalDate()));
+        when(rollupRepository.findById(userId)).thenReturn(Optional.of(rollup));
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of(entry(UUID.randomUUID(), now, "Back")));
+        when(userStatsRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(currentStats().build()));
+        when(userStatsRepository.save(any(UserStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserStats stats = userStatsService.rebuild(userId);
+
+        assertThat(stats.getTotalWorkouts()).isEqualTo(3);
+        assertThat(stats.getLongestStreak()).isEqualTo(3);
+        assertThat(stats.getCurrentStreak()).isEqualTo(1);
+        assertThat(stats.getLastMuscleGroup()).isEqualTo("Back");
+    }
+
+    @Test
+    void getStats_ShouldResetExpiredPeriodsWithoutSaving() {
+        UserStats stored = UserStats.builder()
+                .userId(userId)
+                .totalWorkouts(10)
+                .currentStreak(4)
+                .longestStreak(6)
+                .lastWorkoutDate(today.minusDays(40))
+                .monthStart(today.minusMonths(2).withDayOfMonth(1))
+                .monthlyWorkouts(8)
+                .weekStart(today.minusWeeks(6).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)))
+                .weeklySets(12)
+                .build();
+        when(userStatsRepository.findById(userId)).thenReturn(Optional.of(stored));
+
+        UserStats stats = userStatsService.getStats(userId);
+
+        assertThat(stats.getTotalWorkouts()).isEqualTo(10);
+        assertThat(stats.getLongestStreak()).isEqualTo(6);
+        assertThat(stats.getCurrentStreak()).isZero();
+        assertThat(stats.getMonthlyWorkouts()).isZero();
+        assertThat(stats.getWeeklySets()).isZero();
+        assertThat(stored.getCurrentStreak()).isEqualTo(4);
+        verify(userStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void getStats_ShouldComputeWithoutSavingWhenNoRowExistsYet() {
+        when(userStatsRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of(
+                entry(UUID.randomUUID(), LocalDateTime.now(), "Back")));
+
+        UserStats stats = userStatsService.getStats(userId);
+
+        assertThat(stats.getTotalWorkouts()).isEqualTo(1);
+        assertThat(stats.getCurrentStreak()).isEqualTo(1);
+        verify(userStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void getStats_ShouldRejectUnknownUser() {
+        when(userStatsRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> userStatsService.getStats(userId));
+
+        verifyNoInteractions(progressRepository);
+        verify(userStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void rebuild_ShouldUpdateTheStoredRowAtItsCurrentVersion() {
+        UserStats stored = currentStats().version(3L).build();
+        when(userStatsRepository.findByIdForUpdate(userId)).thenReturn(Optional.of(stored));
+        when(progressRepository.findEntriesByUserId(userId)).thenReturn(List.of());
+        when(userStatsRepository.save(any(UserStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserStats stats = userStatsService.rebuild(userId);
+
+        assertThat(stats.getVersion()).isEqualTo(3L);
+    }
+
+    private UserStats.UserStatsBuilder currentStats() {
+        return UserStats.builder()
+                .userId(userId)
+                .monthStart(today.withDayOfMonth(1))
+                .weekStart(today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+    }
+
+    private static ProgressEntry entry(UUID workoutId, LocalDateTime timestamp, String categoryName) {
+        return new ProgressEntry() {
+            @Override
+            public UUID getWorkoutId() {
+                return workoutId;
+            }
+
+            @Override
+            public LocalDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public String getExerciseName() {
+                return null;
+            }
+
+            @Override
+            public String getCategoryName() {
+                return categoryName;
+            }
+        };
+    }
+}
@@ -254,15 +254,6 @@ class UserServiceUTest {
         verify(notificationService, times(1)).saveNotificationPreference(userId, false, null);
         verify(userRepository, times(1)).save(user);
     }
-
-    @Test
-    void getAllUsers_ShouldReturnListFromRepository() {
-        List<User> userList = Arrays.asList(new User(), new User());
-        when(userRepository.findAll()).thenReturn(userList);
-
-        List<User> result = userService.getAllUsers();
-
-        assertThat(result).hasSize(2);
 =======
         RegisterRequest request = new RegisterRequest("testUser", "password", "test@example.com");
 
@@ -303,18 +294,7 @@ class UserServiceUTest {
 //        verify(userRepository).save(any(User.class));
 //        verify(notificationService).saveNotificationPreference(userId, true, "new@example.com");
 //    }
-
-    @Test
-    void getAllUsers_ShouldReturnUserList() {
-        when(userRepository.findAll()).thenReturn(List.of(mockUser));
-
-        List<User> users = userService.getAllUsers();
-
-        assertFalse(users.isEmpty());
-        assertEquals(1, users.size());
 >>>>>>> d383567 (Add banner image and update README)
-        verify(userRepository).findAll();
-    }
 
     @Test
     void getById_ShouldReturnUser_WhenUserExists() {
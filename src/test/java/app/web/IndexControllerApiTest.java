@@ -1,14 +1,16 @@
 package app.web;
 
 import app.category.model.Category;
-import app.category.service.CategoryService;
 import app.exercise.model.Exercise;
-import app.progress.service.ProgressService;
+import app.exercise.service.ExerciseImageResolver;
+import app.progress.service.HomeDashboardService;
 import app.security.AuthenticationMetadata;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.service.UserService;
+import app.web.dto.HomeDashboard;
 import app.web.dto.RegisterRequest;
+import app.web.mapper.DtoMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -33,10 +35,10 @@ public class IndexControllerApiTest {
     private UserService userService;
 
     @MockitoBean
-    private ProgressService progressService;
+    private HomeDashboardService homeDashboardService;
 
     @MockitoBean
-    private CategoryService categoryService;
+    private ExerciseImageResolver exerciseImageResolver;
 
     @Autowired
     private MockMvc mockMvc;
@@ -110,14 +112,17 @@ public class IndexControllerApiTest {
                 .exercises(List.of(new Exercise(), new Exercise()))
                 .build();
 
-        when(userService.getById(userId)).thenReturn(user);
-        when(progressService.calculateWorkoutStreak(userId)).thenReturn(5L);
-        when(progressService.getTotalWorkouts(userId)).thenReturn(12);
-        when(progressService.getLastWorkoutMuscleGroup(userId)).thenReturn("Back");
-        when(progressService.getLastWorkoutDate(userId)).thenReturn("2025-03-20");
-        when(progressService.getLastWorkoutExercises(userId)).thenReturn(List.of("Rows", "Pull-ups"));
-        when(progressService.getMonthlyWorkoutCount(userId)).thenReturn(4);
-        when(categoryService.getNextMuscleGroup(userId)).thenReturn(nextMuscleGroup);
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
+        when(homeDashboardService.getDashboard(userId)).thenReturn(HomeDashboard.builder()
+                .streak(5L)
+                .totalWorkouts(12)
+                .lastMuscleGroup("Back")
+                .lastWorkoutDate("2025-03-20")
+                .lastWorkoutExercises(List.of("Rows", "Pull-ups"))
+                .monthlyWorkouts(4)
+                .nextMuscleGroup(nextMuscleGroup)
+                .suggestedExercises(nextMuscleGroup.getExercises())
+                .build());
 
         mockMvc.perform(get("/home").with(user(principal)))
                 .andExpect(status().isOk())
@@ -133,7 +138,7 @@ public class IndexControllerApiTest {
         AuthenticationMetadata principal = new AuthenticationMetadata
                 (userId, "user", "pass", UserRole.USER, true);
 
-        when(userService.getById(userId)).thenReturn(User.builder().id(userId).username("user").build());
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(User.builder().id(userId).username("user").build()));
 
         mockMvc.perform(get("/privacy").with(user(principal)))
                 .andExpect(status().isOk())
@@ -147,7 +152,7 @@ public class IndexControllerApiTest {
         AuthenticationMetadata principal = new AuthenticationMetadata
                 (userId, "user", "pass", UserRole.USER, true);
 
-        when(userService.getById(userId)).thenReturn(User.builder().id(userId).username("user").build());
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(User.builder().id(userId).username("user").build()));
 
         mockMvc.perform(get("/about").with(user(principal)))
                 .andExpect(status().isOk())
@@ -7,6 +7,7 @@ import app.security.AuthenticationMetadata;
 import app.user.model.User;
 import app.user.model.UserRole;
 import app.user.service.UserService;
+import app.web.mapper.DtoMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -45,7 +46,7 @@ public class NotificationControllerApiTest {
         NotificationPreference preference = new NotificationPreference();
         Notification notification = new Notification();
 
-        when(userService.getById(userId)).thenReturn(User.builder().id(userId).build());
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(User.builder().id(userId).build()));
         when(notificationService.getNotificationPreference(userId)).thenReturn(preference);
         when(notificationService.getNotificationHistory(userId)).thenReturn(List.of(notification));
 
@@ -53,6 +54,8 @@ public class NotificationControllerApiTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("notifications"))
                 .andExpect(model().attributeExists("user", "notificationPreference", "notificationHistory"));
+
+        verify(userService, times(1)).getUserView(userId);
     }
 
     @Test
@@ -1,6 +1,5 @@
 package app.web;
 
-import app.category.model.Category;
 import app.progress.service.ProgressService;
 import app.security.AuthenticationMetadata;
 import app.user.model.User;
@@ -10,13 +9,17 @@ import app.workout.model.Workout;
 import app.workout.service.WorkoutService;
 import app.exercise.model.Exercise;
 import app.exercise.service.ExerciseService;
-import app.progress.model.Progress;
+import app.web.dto.ProgressExercise;
+import app.web.dto.ProgressHistoryPage;
+import app.web.dto.WorkoutProgress;
+import app.web.mapper.DtoMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -53,29 +56,54 @@ public class ProgressControllerApiTest {
     @Test
     void viewProgress_shouldReturnProgressViewWithModelAttributes() throws Exception {
         User user = User.builder().id(userId).username("testUser").build();
-        Workout workout = Workout.builder().id(UUID.randomUUID()).build();
-
-        Exercise exercise = new Exercise();
-        exercise.setId(UUID.randomUUID());
-
-        Category category = new Category();
-        category.setName("Chest");
-        exercise.setCategory(category);
-
-        Progress progress = new Progress();
-        progress.setWorkout(workout);
-        progress.setExercise(exercise);
+        WorkoutProgress workoutProgress = WorkoutProgress.builder()
+                .workoutId(UUID.randomUUID())
+                .workoutName("Push day")
+                .latestTimestamp(LocalDateTime.now())
+                .exercises(List.of(new ProgressExercise("Bench press", "Chest")))
+                .build();
 
-        when(userService.getById(userId)).thenReturn(user);
-        when(progressService.getUserProgressSummary(userId)).thenReturn(List.of(progress));
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
+        when(progressService.getProgressHistory(userId, null)).thenReturn(ProgressHistoryPage.builder()
+                .workouts(List.of(workoutProgress))
+                .nextCursor("2024-05-01T18:30_" + UUID.randomUUID())
+                .build());
         when(progressService.calculateWorkoutStreak(userId)).thenReturn(2L);
+        when(progressService.getTotalWorkouts(userId)).thenReturn(7);
 
         mockMvc.perform(get("/progress").with(user(principal)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("progress"))
-                .andExpect(model().attributeExists("workoutProgressList", "streak", "totalWorkouts", "user"));
+                .andExpect(model().attributeExists("workoutProgressList", "nextCursor", "streak", "totalWorkouts", "user"))
+                .andExpect(model().attribute("totalWorkouts", 7));
     }
 
+    @Test
+    void getProgressHistory_shouldReturnThePageAfterTheCursorAsJson() throws Exception {
+        User user = User.builder().id(userId).username("testUser").build();
+        UUID workoutId = UUID.randomUUID();
+        String cursor = "2024-05-01T18:30_" + UUID.randomUUID();
+        WorkoutProgress workoutProgress = WorkoutProgress.builder()
+                .workoutId(workoutId)
+                .workoutName("Leg day")
+                .latestTimestamp(LocalDateTime.of(2024, 4, 30, 9, 0))
+                .exercises(List.of(new ProgressExercise("Squat", "Legs")))
+                .build();
+
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
+        when(progressService.getProgressHistory(userId, cursor, 100)).thenReturn(ProgressHistoryPage.builder()
+                .workouts(List.of(workoutProgress))
+                .build());
+
+        mockMvc.perform(get("/progress/api")
+                        .param("cursor", cursor)
+                        .param("size", "500")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workouts[0].workoutId").value(workoutId.toString()))
+                .andExpect(jsonPath("$.workouts[0].exercises[0].name").value("Squat"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
 
     @Test
     void deleteWorkout_shouldCallServiceAndRedirect() throws Exception {
@@ -0,0 +1,51 @@
+package app.web;
+
+import app.exception.DomainException;
+import app.exception.UserNotFoundException;
+import app.security.AuthenticationMetadata;
+import app.stats.service.UserStatsService;
+import app.user.model.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StatsRestController.class)
+public class StatsRestControllerApiTest {
+
+    @MockitoBean
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getStats_forUnknownUser_shouldReturnNotFound() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(userStatsService.getStats(userId)).thenThrow(new UserNotFoundException("unknown"));
+
+        mockMvc.perform(get("/api/stats/" + userId).with(user(principal())))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getStats_whenAnotherDomainErrorOccurs_shouldNotReportNotFound() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(userStatsService.getStats(userId)).thenThrow(new DomainException("broken"));
+
+        mockMvc.perform(get("/api/stats/" + userId).with(user(principal())))
+                .andExpect(status().isInternalServerError());
+    }
+
+    private static AuthenticationMetadata principal() {
+        return new AuthenticationMetadata(UUID.randomUUID(), "User123", "pass", UserRole.USER, true);
+    }
+}
@@ -2,11 +2,14 @@ package app.web;
 
 import app.security.AuthenticationMetadata;
 import app.user.model.User;
+import app.user.model.UserListItem;
 import app.user.model.UserRole;
 import app.user.service.UserService;
+import app.web.mapper.DtoMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -61,8 +64,8 @@ public class UserControllerApiTest {
                 (userId, "admin", "12345678", UserRole.ADMIN, true);
 
         User user = User.builder().id(userId).username("admin").build();
-        when(userService.getById(userId)).thenReturn(user);
-        when(userService.getAllUsers()).thenReturn(List.of(user));
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
+        when(userService.searchUsers("", 0, "username", "asc")).thenReturn(Page.empty());
 
         mockMvc.perform(get("/users").with(user(principal)))
                 .andExpect(status().isOk())
@@ -70,6 +73,29 @@ public class UserControllerApiTest {
                 .andExpect(model().attributeExists("users", "user"));
     }
 
+    @Test
+    void getUsersPage_asAdmin_shouldReturnCursorForFullPage() throws Exception {
+        AuthenticationMetadata principal = new AuthenticationMetadata
+                (UUID.randomUUID(), "admin", "12345678", UserRole.ADMIN, true);
+        UserListItem item = new UserListItem() {
+            public UUID getId() { return UUID.randomUUID(); }
+            public String getUsername() { return "bob"; }
+            public String getEmail() { return "bob@test.com"; }
+            public UserRole getRole() { return UserRole.USER; }
+            public boolean isActive() { return true; }
+        };
+        when(userService.searchUsersAfter("b", "alice", 1)).thenReturn(List.of(item));
+
+        mockMvc.perform(get("/users/api")
+                        .param("search", "b")
+                        .param("after", "alice")
+                        .param("size", "1")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("bob"));
+    }
+
     @Test
     void getUserProfile_shouldReturnProfileView() throws Exception {
         UUID userId = UUID.randomUUID();
@@ -1,8 +1,11 @@
 package app.web;
 
 import app.category.model.Category;
-import app.category.repository.CategoryRepository;
+import app.exercise.model.CategoryExercises;
 import app.exercise.model.Exercise;
+import app.exercise.service.ExerciseCatalog;
+import app.exercise.service.ExerciseImageResolver;
+import app.exercise.service.ExercisePayloadCache;
 import app.exercise.service.ExerciseService;
 import app.progress.service.ProgressService;
 import app.security.AuthenticationMetadata;
@@ -15,10 +18,13 @@ import app.web.dto.WorkoutRequest;
 import app.workout.model.Workout;
 import app.workout.service.WorkoutService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import app.web.mapper.DtoMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +39,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(WorkoutController.class)
+@Import(ExercisePayloadCache.class)
 class WorkoutControllerApiTest {
 
     @Autowired
@@ -48,11 +55,14 @@ class WorkoutControllerApiTest {
     private ExerciseService exerciseService;
 
     @MockitoBean
-    private CategoryRepository categoryRepository;
+    private ExerciseCatalog exerciseCatalog;
 
     @MockitoBean
     private ProgressService progressService;
 
+    @MockitoBean
+    private ExerciseImageResolver exerciseImageResolver;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private final UUID userId = UUID.randomUUID();
@@ -67,8 +77,8 @@ class WorkoutControllerApiTest {
         Category category = new Category();
         category.setName("Chest");
 
-        when(userService.getById(userId)).thenReturn(user);
-        when(categoryRepository.findAll()).thenReturn(List.of(category));
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
+        when(exerciseCatalog.getCategories()).thenReturn(List.of(category));
 
         // When / Then
         mockMvc.perform(get("/workout").with(user(principal)))
@@ -86,17 +96,41 @@ class WorkoutControllerApiTest {
         exercise.setSets(3);
         exercise.setReps(10);
 
-        when(exerciseService.getExercisesByCategory("Chest")).thenReturn(List.of(exercise));
+        when(exerciseCatalog.getCategoryExercises("Chest")).thenReturn(new CategoryExercises(1L, true, List.of(exercise)));
 
         mockMvc.perform(get("/workout/exercise")
                         .param("categoryName", "Chest")
                         .with(user(principal)))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, private"))
                 .andExpect(jsonPath("$[0].name").value("Push-up"))
                 .andExpect(jsonPath("$[0].sets").value(3))
                 .andExpect(jsonPath("$[0].reps").value(10));
     }
 
+    @Test
+    void getExercisesByCategory_shouldAnswerNotModified_whenEtagMatches() throws Exception {
+        // Given
+        Exercise exercise = Exercise.builder().id(UUID.randomUUID()).name("Squat").sets(4).reps(8).build();
+        when(exerciseCatalog.getCategoryExercises("Legs")).thenReturn(new CategoryExercises(1L, true, List.of(exercise)));
+
+        String etag = mockMvc.perform(get("/workout/exercise")
+                        .param("categoryName", "Legs")
+                        .with(user(principal)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(get("/workout/exercise")
+                        .param("categoryName", "Legs")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(principal)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     void selectExercises_shouldStoreSelectedExercises() throws Exception {
         List<UUID> exerciseIds = List.of(UUID.randomUUID());
@@ -132,24 +166,32 @@ class WorkoutControllerApiTest {
     void startWorkout_shouldRenderStartWorkoutView() throws Exception {
         UUID exerciseId = UUID.randomUUID();
         List<UUID> exerciseIds = List.of(exerciseId);
-        Exercise exercise = new Exercise();
+        Exercise exercise = Exercise.builder().id(exerciseId).name("Squat").gifUrl("/images/exercises/Squat.gif").build();
+        String accept = "text/html,image/webp,*/*;q=0.8";
 
         User user = User.builder().id(userId).build();
 
-        when(userService.getById(userId)).thenReturn(user);
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
         when(exerciseService.getUserSelectedExercises(userId)).thenReturn(exerciseIds);
         when(exerciseService.getExercisesByIds(exerciseIds)).thenReturn(List.of(exercise));
+        when(exerciseImageResolver.resolve("/images/exercises/Squat.gif", accept))
+                .thenReturn("/images/exercises/Squat-0123abcd.webp");
+        when(exerciseImageResolver.resolveThumbnail("/images/exercises/Squat.gif"))
+                .thenReturn("/images/thumbnails/Squat-4567cdef.jpg");
 
-        mockMvc.perform(get("/workout/startWorkout").with(user(principal)))
+        mockMvc.perform(get("/workout/startWorkout").header(HttpHeaders.ACCEPT, accept).with(user(principal)))
                 .andExpect(status().isOk())
                 .andExpect(view().name("startWorkout"))
-                .andExpect(model().attributeExists("sessionId", "exercises", "user"));
+                .andExpect(model().attributeExists("sessionId", "exercises", "user"))
+                .andExpect(model().attribute("exercises", List.of(
+                        DtoMapper.mapExerciseToExerciseDTO(exercise,
+                                "/images/exercises/Squat-0123abcd.webp", "/images/thumbnails/Squat-4567cdef.jpg"))));
     }
 
     @Test
     void startWorkout_withoutSelectedExercises_shouldRedirect() throws Exception {
         User user = User.builder().id(userId).build();
-        when(userService.getById(userId)).thenReturn(user);
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
         when(exerciseService.getUserSelectedExercises(userId)).thenReturn(List.of());
 
         mockMvc.perform(get("/workout/startWorkout").with(user(principal)))
@@ -160,7 +202,7 @@ class WorkoutControllerApiTest {
     @Test
     void completeWorkout_shouldReturnCompletedView() throws Exception {
         User user = User.builder().id(userId).build();
-        when(userService.getById(userId)).thenReturn(user);
+        when(userService.getUserView(userId)).thenReturn(DtoMapper.mapUserToUserView(user));
 
         mockMvc.perform(get("/workout/complete").with(user(principal)))
                 .andExpect(status().isOk())
@@ -171,9 +213,9 @@ class WorkoutControllerApiTest {
     @Test
     void updateWorkout_shouldCallServiceAndRedirect() throws Exception {
         ExerciseDTO ex1 = new ExerciseDTO(
-                UUID.randomUUID(), "Push", "desc", "gif", 3, 10);
+                UUID.randomUUID(), "Push", "desc", "gif", 3, 10, null, null);
         ExerciseDTO ex2 = new ExerciseDTO(
-                UUID.randomUUID(), "Squat", "desc", "gif", 4, 12);
+                UUID.randomUUID(), "Squat", "desc", "gif", 4, 12, null, null);
 
         mockMvc.perform(post("/workout/updateWorkout")
                         .with(csrf())
@@ -194,6 +236,27 @@ class WorkoutControllerApiTest {
                 .andExpect(redirectedUrl("/workout"));
 
         verify(workoutService).updateWorkoutExercises(Mockito.anyList());
+        verify(exerciseCatalog).refresh();
     }
 
+    @Test
+    void saveWorkout_shouldStoreWorkoutWithOneCommand() throws Exception {
+        List<UUID> exerciseIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        WorkoutRequest request = new WorkoutRequest("Leg Day", userId, exerciseIds, true);
+        Workout workout = Workout.builder().id(UUID.randomUUID()).build();
+
+        when(workoutService.completeWorkout(userId, "Leg Day", exerciseIds, true)).thenReturn(workout);
+
+        mockMvc.perform(post("/workout/saveWorkout")
+                        .with(csrf())
+                        .with(user(principal))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Workout saved successfully with ID: " + workout.getId()));
+
+        verify(workoutService).completeWorkout(userId, "Leg Day", exerciseIds, true);
+        verify(exerciseService).clearUserSelectedExercises(userId);
+        verifyNoInteractions(progressService);
+    }
 }
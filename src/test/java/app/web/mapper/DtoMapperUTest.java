@@ -1,12 +1,19 @@
 package app.web.mapper;
 
+import app.exercise.model.Exercise;
 import app.user.model.User;
+import app.user.model.UserRole;
+import app.web.dto.ExerciseDTO;
 import app.web.dto.UserEditRequest;
+import app.web.dto.UserView;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class DtoMapperUTest {
@@ -31,4 +38,54 @@ public class DtoMapperUTest {
         assertEquals(user.getEmail(), resultDto.getEmail());
         assertEquals(user.getProfilePicture(), resultDto.getProfilePicture());
     }
+
+    @Test
+    void givenHappyPath_whenMappingUserToUserView(){
+
+        // Given
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("alidzhan")
+                .email("alidzhansadak04@gmail.com")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build();
+
+        // When
+        UserView resultDto = DtoMapper.mapUserToUserView(user);
+
+        // Then
+        assertEquals(user.getId(), resultDto.getId());
+        assertEquals(user.getUsername(), resultDto.getUsername());
+        assertEquals(user.getEmail(), resultDto.getEmail());
+        assertEquals(UserRole.ADMIN, resultDto.getRole());
+        assertTrue(resultDto.isActive());
+    }
+
+    @Test
+    void givenResolvedImageUrl_whenMappingExerciseToExerciseDTO(){
+
+        // Given
+        Exercise exercise = Exercise.builder()
+                .id(UUID.randomUUID())
+                .name("Squat")
+                .description("Legs")
+                .gifUrl("/images/exercises/Squat.gif")
+                .sets(4)
+                .reps(8)
+                .build();
+
+        // When
+        ExerciseDTO resultDto = DtoMapper.mapExerciseToExerciseDTO(exercise,
+                "/images/exercises/Squat-0123abcd.gif", "/images/thumbnails/Squat-4567cdef.jpg");
+
+        // Then
+        assertEquals(exercise.getId(), resultDto.getId());
+        assertEquals(exercise.getName(), resultDto.getName());
+        assertEquals(exercise.getDescription(), resultDto.getDescription());
+        assertEquals("/images/exercises/Squat-0123abcd.gif", resultDto.getGifUrl());
+        assertEquals(4, resultDto.getSets());
+        assertEquals(8, resultDto.getReps());
+        assertEquals("/images/thumbnails/Squat-4567cdef.jpg", resultDto.getThumbnailUrl());
+    }
 }
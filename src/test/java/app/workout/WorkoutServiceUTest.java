@@ -1,22 +1,31 @@
 package app.workout;
 
 import app.exception.UsernameAlreadyExistException;
+import app.category.model.Category;
 import app.exercise.model.Exercise;
 import app.exercise.repository.ExerciseRepository;
 import app.progress.repository.ProgressRepository;
+import app.progress.service.StreakService;
 import app.security.AuthenticationMetadata;
+import app.stats.service.UserStatsService;
 import app.user.model.User;
 import app.user.repository.UserRepository;
 import app.web.dto.ExerciseDTO;
 import app.workout.model.Workout;
 import app.workout.repository.WorkoutRepository;
+import app.workout.service.WorkoutArchiveService;
 import app.workout.service.WorkoutService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -42,6 +51,18 @@ class WorkoutServiceUTest {
     @Mock
     private ProgressRepository progressRepository;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private StreakService streakService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private WorkoutArchiveService workoutArchiveService;
+
     @InjectMocks
     private WorkoutService workoutService;
 
@@ -114,6 +135,113 @@ class WorkoutServiceUTest {
         verify(workoutRepository, times(2)).save(any(Workout.class));
     }
 
+    @Test
+    void completeWorkout_ShouldSaveWorkoutProgressAndStatsOnce() {
+        // Given
+        mockExercise.setCategory(Category.builder().name("Legs").build());
+        Exercise lunges = Exercise.builder().id(UUID.randomUUID()).name("Lunges")
+                .category(Category.builder().name("Glutes").build()).build();
+        List<UUID> exerciseIds = List.of(mockExercise.getId(), lunges.getId());
+
+        when(exerciseRepository.findAllWithCategoryByIdIn(exerciseIds)).thenReturn(List.of(mockExercise, lunges));
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
+        when(workoutRepository.save(any(Workout.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Workout result = workoutService.completeWorkout(userId, "Leg Day", exerciseIds, true);
+
+        // Then
+        assertTrue(result.isCompleted());
+        assertThat(result.getExercises()).containsExactly(mockExercise, lunges);
+        verify(workoutRepository, times(1)).save(any(Workout.class));
+        verify(progressRepository).saveAll(argThat(rows -> ((List<?>) rows).size() == 2));
+        verify(userStatsService).recordCompletions(eq(userId), eq(2), eq(2), eq("Glutes"), any(LocalDateTime.class), eq(true));
+        verify(streakService).recordWorkoutDay(userId, LocalDate.now());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void completeWorkout_ShouldTakeLastMuscleGroupFromRequestedOrderNotRowOrder() {
+        // Given
+        mockExercise.setCategory(Category.builder().name("Legs").build());
+        Exercise lunges = Exercise.builder().id(UUID.randomUUID()).name("Lunges")
+                .category(Category.builder().name("Glutes").build()).build();
+        List<UUID> exerciseIds = List.of(lunges.getId(), mockExercise.getId());
+
+        when(exerciseRepository.findAllWithCategoryByIdIn(exerciseIds)).thenReturn(List.of(mockExercise, lunges));
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
+        when(workoutRepository.save(any(Workout.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        workoutService.completeWorkout(userId, "Leg Day", exerciseIds, true);
+
+        // Then
+        verify(userStatsService).recordCompletions(eq(userId), eq(2), eq(2), eq("Legs"), any(LocalDateTime.class), eq(true));
+    }
+
+    @Test
+    void completeWorkout_ShouldLogEveryRequestedIdButLinkEachExerciseOnce() {
+        // Given
+        mockExercise.setCategory(Category.builder().name("Legs").build());
+        Exercise lunges = Exercise.builder().id(UUID.randomUUID()).name("Lunges")
+                .category(Category.builder().name("Glutes").build()).build();
+        List<UUID> exerciseIds = List.of(mockExercise.getId(), lunges.getId(), mockExercise.getId());
+
+        when(exerciseRepository.findAllWithCategoryByIdIn(exerciseIds)).thenReturn(List.of(lunges, mockExercise));
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
+        when(workoutRepository.save(any(Workout.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Workout result = workoutService.completeWorkout(userId, "Leg Day", exerciseIds, true);
+
+        // Then
+        assertThat(result.getExercises()).containsExactly(mockExercise, lunges);
+        verify(progressRepository).saveAll(argThat(rows -> ((List<?>) rows).size() == 3));
+        verify(userStatsService).recordCompletions(eq(userId), eq(3), eq(2), eq("Legs"), any(LocalDateTime.class), eq(true));
+    }
+
+    @Test
+    void completeWorkout_WithUnknownExerciseId_ShouldRejectTheWholeRequest() {
+        // Given
+        List<UUID> exerciseIds = List.of(mockExercise.getId(), UUID.randomUUID());
+        when(exerciseRepository.findAllWithCategoryByIdIn(exerciseIds)).thenReturn(List.of(mockExercise));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> workoutService.completeWorkout(userId, "Leg Day", exerciseIds, true));
+        verifyNoInteractions(workoutRepository, progressRepository, userStatsService, streakService);
+    }
+
+    @Test
+    void completeWorkout_WithoutExercises_ShouldNotQueryExercises() {
+        // Given
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
+        when(workoutRepository.save(any(Workout.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Workout result = workoutService.completeWorkout(userId, "Leg Day", List.of(), true);
+
+        // Then
+        assertThat(result.getExercises()).isEmpty();
+        verifyNoInteractions(exerciseRepository, progressRepository, userStatsService, streakService);
+    }
+
+    @Test
+    void completeWorkout_WithoutProgress_ShouldOnlySaveWorkout() {
+        // Given
+        List<UUID> exerciseIds = List.of(mockExercise.getId());
+        when(exerciseRepository.findAllWithCategoryByIdIn(exerciseIds)).thenReturn(List.of(mockExercise));
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
+        when(workoutRepository.save(any(Workout.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        workoutService.completeWorkout(userId, "Leg Day", exerciseIds, false);
+
+        // Then
+        verify(workoutRepository, times(1)).save(any(Workout.class));
+        verifyNoInteractions(progressRepository, userStatsService, streakService);
+    }
+
     @Test
     void getWorkoutById_ShouldReturnWorkout() {
         UUID workoutId = UUID.randomUUID();
@@ -188,6 +316,7 @@ class WorkoutServiceUTest {
     void deleteWorkoutAndProgress_ShouldDeleteProgressAndWorkout() {
         UUID workoutId = UUID.randomUUID();
 
+        when(workoutRepository.findUserIdById(workoutId)).thenReturn(Optional.of(userId));
         doNothing().when(progressRepository).deleteByWorkoutId(workoutId);
         doNothing().when(workoutRepository).deleteById(workoutId);
 
@@ -195,6 +324,8 @@ class WorkoutServiceUTest {
 
         verify(progressRepository).deleteByWorkoutId(workoutId);
         verify(workoutRepository).deleteById(workoutId);
+        verify(userStatsService).rebuild(userId);
+        verify(streakService).rebuild(userId);
     }
 
     @Test
@@ -260,33 +391,70 @@ class WorkoutServiceUTest {
     }
 
     @Test
-    void deleteWorkoutsBefore_ShouldDeleteOldWorkoutsAndTheirProgress() {
+    void archiveWorkoutsBefore_ShouldArchiveAndDeleteOldWorkoutsInChunks() {
         // Given
         LocalDate cutoffDate = LocalDate.of(2023, 1, 1);
-        Workout oldWorkout1 = new Workout();
-        oldWorkout1.setId(UUID.randomUUID());
-        oldWorkout1.setCreatedOn(LocalDateTime.of(2022, 12, 31, 10, 0));
-        oldWorkout1.setExercises(new ArrayList<>());
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        UUID id3 = UUID.randomUUID();
+        ReflectionTestUtils.setField(workoutService, "cleanupChunkSize", 2);
 
-        Workout oldWorkout2 = new Workout();
-        oldWorkout2.setId(UUID.randomUUID());
-        oldWorkout2.setCreatedOn(LocalDateTime.of(2022, 11, 25, 10, 0));
-        oldWorkout2.setExercises(new ArrayList<>());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(workoutRepository.findIdsCreatedBefore(eq(cutoffDate.atStartOfDay()), any(Pageable.class)))
+                .thenReturn(List.of(id1, id2))
+                .thenReturn(List.of(id3));
 
-        List<Workout> oldWorkouts = List.of(oldWorkout1, oldWorkout2);
+        // When
+        int result = workoutService.archiveWorkoutsBefore(cutoffDate);
 
-        when(workoutRepository.findByCreatedOnBefore(any(LocalDateTime.class)))
-                .thenReturn(oldWorkouts);
+        // Then
+        assertEquals(3, result);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(workoutArchiveService).archive(List.of(id1, id2));
+        verify(progressRepository).deleteByWorkoutIdIn(List.of(id1, id2));
+        verify(workoutRepository).deleteByIdIn(List.of(id1, id2));
+        verify(workoutArchiveService).archive(List.of(id3));
+        verify(progressRepository).deleteByWorkoutIdIn(List.of(id3));
+        verify(workoutRepository).deleteByIdIn(List.of(id3));
+    }
 
-        doNothing().when(progressRepository).deleteByWorkoutId(any(UUID.class));
-        doNothing().when(workoutRepository).deleteAll(oldWorkouts);
+    @Test
+    void archiveWorkoutsBefore_ShouldArchiveEachChunkBeforeDeletingIt() {
+        // Given
+        UUID id1 = UUID.randomUUID();
+        ReflectionTestUtils.setField(workoutService, "cleanupChunkSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(workoutRepository.findIdsCreatedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(id1));
+
+        // When
+        int result = workoutService.archiveWorkoutsBefore(LocalDate.of(2023, 1, 1));
+
+        // Then
+        assertEquals(1, result);
+        InOrder inOrder = inOrder(workoutArchiveService, progressRepository, workoutRepository);
+        inOrder.verify(workoutArchiveService).archive(List.of(id1));
+        inOrder.verify(progressRepository).deleteByWorkoutIdIn(List.of(id1));
+        inOrder.verify(workoutRepository).deleteByIdIn(List.of(id1));
+    }
+
+    @Test
+    void archiveWorkoutsBefore_ShouldDoNothingWhenNoWorkoutIsOldEnough() {
+        // Given
+        ReflectionTestUtils.setField(workoutService, "cleanupChunkSize", 2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(workoutRepository.findIdsCreatedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
 
         // When
-        int result = workoutService.deleteWorkoutsBefore(cutoffDate);
+        int result = workoutService.archiveWorkoutsBefore(LocalDate.of(2023, 1, 1));
 
         // Then
-        assertEquals(2, result);
-        verify(progressRepository, times(2)).deleteByWorkoutId(any(UUID.class));
-        verify(workoutRepository).deleteAll(oldWorkouts);
+        assertEquals(0, result);
+        verify(workoutRepository, never()).deleteByIdIn(any());
+        verifyNoInteractions(workoutArchiveService);
     }
 }